@@ -0,0 +1,62 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Makes GameBoards with each kind of dictionary for the benchmarks.
+ *
+ * @author Patrick Rafferty
+ */
+final class Backends {
+    /**
+     * Printed if an unexpected value was found.
+     */
+    private static final String UNEXPECTED_VALUE = "Unexpected value: ";
+    
+    /**
+     * Not used, this only has static methods.
+     */
+    private Backends() {
+    }
+    
+    /**
+     * Makes a GameBoard and loads a dictionary into it.
+     *
+     * @param backend    the kind of dictionary: a Collection type, Trie, Dawg or Packed
+     * @param dictionary the path of the file with words
+     * @return the GameBoard with its dictionary loaded
+     * @throws IOException if there was a problem reading the dictionary
+     */
+    static GameBoard newBoard(String backend, Path dictionary) throws IOException {
+        List<String> words = new DictionaryLoader().load(dictionary).words();
+        GameBoard gameBoard = switch (backend) {
+            case "Trie" -> new GameBoard(ArrayTrie.of(words));
+            case "Dawg" -> new GameBoard(Dawg.of(ArrayTrie.of(words)));
+            case "Packed" -> new GameBoard(PackedDictionary.of(words));
+            case "ArrayList" -> new GameBoard(new ArrayList<>(words.size()));
+            case "LinkedList" -> new GameBoard(new LinkedList<>());
+            case "HashSet" -> new GameBoard(HashSet.newHashSet(words.size()));
+            case "TreeSet" -> new GameBoard(new TreeSet<>());
+            case "LinkedHashSet" -> new GameBoard(LinkedHashSet.newLinkedHashSet(words.size()));
+            default -> throw new IllegalArgumentException(UNEXPECTED_VALUE + backend);
+        };
+        if (!backend.equals("Trie") && !backend.equals("Dawg") && !backend.equals("Packed")) {
+            gameBoard.loadDictionary(words);
+        }
+        return gameBoard;
+    }
+}
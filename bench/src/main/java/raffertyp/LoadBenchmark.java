@@ -0,0 +1,59 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to load a dictionary into each kind of backend.
+ *
+ * @author Patrick Rafferty
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoadBenchmark {
+    /**
+     * The dictionary file to load.
+     */
+    @Param({"data/2000words.txt", "data/words.txt"})
+    private String dictionary;
+    /**
+     * The kind of dictionary to load into.
+     */
+    @Param({"Trie", "Dawg", "Packed", "TreeSet", "ArrayList", "HashSet", "LinkedList",
+            "LinkedHashSet"})
+    private String backend;
+    
+    /**
+     * Loads the dictionary.
+     *
+     * @return the board with the dictionary loaded
+     * @throws IOException if there was a problem reading the dictionary
+     */
+    @Benchmark
+    public GameBoard loadDictionary() throws IOException {
+        return Backends.newBoard(backend, Path.of(dictionary));
+    }
+}
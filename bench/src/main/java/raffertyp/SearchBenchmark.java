@@ -0,0 +1,96 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to search a grid, with the dictionary and grid already loaded.
+ *
+ * <p>
+ * Every combination of the parameters is run, which takes a long time with the Collection
+ * backends. Pick the ones to run with JMH's -p option, for example -p backend=Trie,Dawg.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+    /**
+     * The rule set to search with.
+     */
+    @Param({"4way", "8way"})
+    private String rules;
+    /**
+     * The grid file to search.
+     */
+    @Param({"data/grid2x2.txt", "data/grid2x3.txt", "data/grid3x3.txt", "data/grid4x4.txt",
+            "data/grid6x6.txt"})
+    private String grid;
+    /**
+     * The dictionary file to search with.
+     */
+    @Param({"data/2000words.txt", "data/words.txt"})
+    private String dictionary;
+    /**
+     * The kind of dictionary to search with.
+     */
+    @Param({"Trie", "Dawg", "Packed", "TreeSet", "ArrayList", "HashSet", "LinkedList",
+            "LinkedHashSet"})
+    private String backend;
+    /**
+     * The board being searched.
+     */
+    private GameBoard gameBoard;
+    /**
+     * The rule for the rule set being searched with.
+     */
+    private NeighbourRule rule;
+    
+    /**
+     * Loads the dictionary and grid.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Setup
+    public void setUp() throws IOException {
+        gameBoard = Backends.newBoard(backend, Path.of(dictionary));
+        gameBoard.loadGrid(Path.of(grid));
+        rule = StandardRule.forName(rules);
+    }
+    
+    /**
+     * Searches the grid.
+     *
+     * @return the found words
+     */
+    @Benchmark
+    public Set<String> findWords() {
+        return gameBoard.findWords(rule);
+    }
+}
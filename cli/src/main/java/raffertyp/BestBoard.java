@@ -0,0 +1,92 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Program to search for the highest scoring grid for a word list, for one or more rule sets.
+ *
+ * <p>
+ * Each rule set gets its own {@link BoardOptimiser} run with every chain in parallel, and the
+ * best grid found for it is printed with its score, how many words it has and how many grids a
+ * second were scored.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public class BestBoard {
+    /**
+     * Printed if an unexpected value was found.
+     */
+    private static final String UNEXPECTED_VALUE = "Unexpected value: ";
+    
+    /**
+     * Entry point for program.
+     *
+     * @param args word list, then optionally size=&lt;rows&gt;x&lt;cols&gt;, chains=&lt;n&gt;,
+     *             steps=&lt;n&gt; changes per chain, temperature=&lt;t&gt; to start at (0 for
+     *             hill climbing), seed=&lt;n&gt; and rules=&lt;4way|8way|hex|torus|knight&gt;,
+     *             which can list several rule sets separated by commas
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: BestBoard <word list> [size=4x4] [chains=<cores>] " +
+                    "[steps=100000] [temperature=3] [seed=2852] [rules=4way,8way]");
+            return;
+        }
+        try {
+            int rows = 4;
+            int cols = 4;
+            int chains = Runtime.getRuntime().availableProcessors();
+            long steps = 100_000;
+            double temperature = 3;
+            long seed = 2852;
+            String rules = "4way,8way";
+            for (int i = 1; i < args.length; i++) {
+                String[] option = args[i].split("=", 2);
+                if (option.length != 2) {
+                    throw new IllegalArgumentException(UNEXPECTED_VALUE + args[i]);
+                }
+                switch (option[0]) {
+                    case "size" -> {
+                        String[] size = option[1].split("x", 2);
+                        rows = Integer.parseInt(size[0]);
+                        cols = Integer.parseInt(size[size.length - 1]);
+                    }
+                    case "chains" -> chains = Integer.parseInt(option[1]);
+                    case "steps" -> steps = Long.parseLong(option[1]);
+                    case "temperature" -> temperature = Double.parseDouble(option[1]);
+                    case "seed" -> seed = Long.parseLong(option[1]);
+                    case "rules" -> rules = option[1];
+                    default -> throw new IllegalArgumentException(UNEXPECTED_VALUE + args[i]);
+                }
+            }
+            ArrayTrie index = ArrayTrie.load(Path.of(args[0]));
+            System.out.println("Dictionary: " + args[0] + " (" + index.wordCount() + " words)");
+            for (String name : rules.split(",")) {
+                NeighbourRule rule = StandardRule.forName(name);
+                BoardOptimiser optimiser = new BoardOptimiser(index, rule);
+                optimiser.setChains(chains);
+                optimiser.setSteps(steps);
+                optimiser.setStartTemperature(temperature);
+                BoardOptimiser.Result result = optimiser.optimise(rows, cols, seed);
+                System.out.printf("%n%s: %d points, %d words (%d grids scored, %.0f per " +
+                                "second)%n%s", name, result.score(), result.wordCount(),
+                        result.evaluations(),
+                        result.evaluations() * 1e9 / Math.max(1, result.time().toNanos()),
+                        result.grid());
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+}
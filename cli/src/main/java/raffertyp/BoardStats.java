@@ -0,0 +1,190 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Program to measure how fast random grids can be made and solved, and how many words they have.
+ *
+ * <p>
+ * Grids are streamed straight from a {@link BoardGenerator} into a {@link Solver}, without
+ * writing them anywhere. Grids are made once on their own to time the generator, then made again
+ * and solved, so the solve rate includes making the grids.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public class BoardStats {
+    /**
+     * Printed if an unexpected value was found.
+     */
+    private static final String UNEXPECTED_VALUE = "Unexpected value: ";
+    /**
+     * How many nanoseconds are in a minute.
+     */
+    private static final double NANOS_PER_MINUTE = 60e9;
+    
+    /**
+     * Entry point for program.
+     *
+     * @param args word list, then optionally dice=&lt;classic|new|big|uniform|words&gt; for how
+     *             grids are made (words draws letters as often as they are in the word list),
+     *             size=&lt;rows&gt;x&lt;cols&gt;, boards=&lt;n&gt;, seed=&lt;n&gt; and
+     *             rules=&lt;4way|8way|hex|torus|knight&gt;
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: BoardStats <word list> [dice=new] [size=4x4] " +
+                    "[boards=100000] [seed=2852] [rules=8way]");
+            return;
+        }
+        try {
+            String dice = "new";
+            int rows = 4;
+            int cols = 4;
+            long boards = 100_000;
+            long seed = 2852;
+            String rules = "8way";
+            for (int i = 1; i < args.length; i++) {
+                String[] option = args[i].split("=", 2);
+                if (option.length != 2) {
+                    throw new IllegalArgumentException(UNEXPECTED_VALUE + args[i]);
+                }
+                switch (option[0]) {
+                    case "dice" -> dice = option[1];
+                    case "size" -> {
+                        String[] size = option[1].split("x", 2);
+                        rows = Integer.parseInt(size[0]);
+                        cols = Integer.parseInt(size[size.length - 1]);
+                    }
+                    case "boards" -> boards = Long.parseLong(option[1]);
+                    case "seed" -> seed = Long.parseLong(option[1]);
+                    case "rules" -> rules = option[1];
+                    default -> throw new IllegalArgumentException(UNEXPECTED_VALUE + args[i]);
+                }
+            }
+            Path path = Path.of(args[0]);
+            BoardGenerator generator = switch (dice) {
+                case "classic" -> BoardGenerator.of(DiceSet.CLASSIC);
+                case "new" -> BoardGenerator.of(DiceSet.NEW);
+                case "big" -> BoardGenerator.of(DiceSet.BIG);
+                case "uniform" -> BoardGenerator.uniform();
+                case "words" -> BoardGenerator.fromWords(Files.readAllLines(path));
+                default -> throw new IllegalArgumentException(UNEXPECTED_VALUE + dice);
+            };
+            NeighbourRule rule = StandardRule.forName(rules);
+            Solver solver = Solver.load(path, rule);
+            
+            long start = System.nanoTime();
+            long cells = generator.boards(rows, cols, seed).limit(boards).parallel()
+                    .mapToLong(Grid::cellCount).sum();
+            long generateTime = System.nanoTime() - start;
+            start = System.nanoTime();
+            Stats stats = generator.boards(rows, cols, seed).limit(boards).parallel()
+                    .collect(Stats::new, (total, grid) -> total.add(grid, solver.solve(grid)),
+                            Stats::add);
+            long solveTime = System.nanoTime() - start;
+            
+            System.out.println("Boards: " + boards + " of " + rows + "x" + cols + " (" + cells +
+                    " cells)");
+            System.out.printf("Generated: %.0f boards per minute%n",
+                    boards * NANOS_PER_MINUTE / generateTime);
+            System.out.printf("Generated and solved: %.0f boards per minute%n",
+                    boards * NANOS_PER_MINUTE / solveTime);
+            System.out.printf("Words per board: %.2f average, %d most%n",
+                    (double) stats.words / stats.boards, stats.mostWords);
+            System.out.printf("Score per board: %.2f average, %d most%n",
+                    (double) stats.score / stats.boards, stats.bestScore);
+            System.out.printf("Boards with no words: %.2f%%%n",
+                    100.0 * stats.emptyBoards / stats.boards);
+            if (stats.best != null) {
+                System.out.print("Best board:\n" + stats.best);
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+    
+    /**
+     * Totals for the solved grids.
+     */
+    private static final class Stats {
+        /**
+         * How many grids were solved.
+         */
+        private long boards;
+        /**
+         * How many words were found in all the grids.
+         */
+        private long words;
+        /**
+         * The total score of all the grids.
+         */
+        private long score;
+        /**
+         * How many grids had no words.
+         */
+        private long emptyBoards;
+        /**
+         * The most words found in one grid.
+         */
+        private int mostWords;
+        /**
+         * The highest score of one grid.
+         */
+        private int bestScore = -1;
+        /**
+         * The grid with the highest score.
+         */
+        private Grid best;
+        
+        /**
+         * Adds a solved grid to the totals.
+         *
+         * @param grid  the grid
+         * @param found the words found in it
+         */
+        void add(Grid grid, Set<String> found) {
+            int gridScore = found.stream().mapToInt(GameBoard::score).sum();
+            boards++;
+            words += found.size();
+            score += gridScore;
+            if (found.isEmpty()) {
+                emptyBoards++;
+            }
+            mostWords = Math.max(mostWords, found.size());
+            if (gridScore > bestScore) {
+                bestScore = gridScore;
+                best = grid;
+            }
+        }
+        
+        /**
+         * Adds another set of totals to these.
+         *
+         * @param other the other totals
+         */
+        void add(Stats other) {
+            boards += other.boards;
+            words += other.words;
+            score += other.score;
+            emptyBoards += other.emptyBoards;
+            mostWords = Math.max(mostWords, other.mostWords);
+            if (other.bestScore > bestScore) {
+                bestScore = other.bestScore;
+                best = other.best;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Program to compile a word list into a file that {@link MappedTrie} or {@link Dawg} can map.
+ *
+ * @author Patrick Rafferty
+ */
+public class DictionaryCompiler {
+    /**
+     * Entry point for program.
+     *
+     * @param args word list, output file, dawg to write a DAWG instead of a trie
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: DictionaryCompiler <word list> <output file> [dawg]");
+            return;
+        }
+        try {
+            Instant start = Instant.now();
+            ArrayTrie trie = ArrayTrie.load(Path.of(args[0]));
+            System.out.println("Words: " + trie.wordCount());
+            if (args.length >= 3 && args[2].equals("dawg")) {
+                Dawg dawg = Dawg.of(trie);
+                dawg.write(Path.of(args[1]));
+                System.out.println("Nodes: " + dawg.nodeCount());
+                System.out.println("Edges: " + dawg.edgeCount());
+            } else {
+                MappedTrie.write(trie, Path.of(args[1]));
+                System.out.println("Nodes: " + trie.nodeCount());
+            }
+            Duration runTime = Duration.between(start, Instant.now());
+            System.out.println("File size: " + Files.size(Path.of(args[1])) + " bytes");
+            System.out.println(
+                    "Run Time: " + runTime.toSeconds() + '.' + runTime.toNanosPart() + " seconds");
+        } catch (IOException e) {
+            System.err.println("Error compiling dictionary: " + e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Program to compare how much heap each kind of dictionary takes up.
+ *
+ * <p>
+ * First it prints how fast the word list was read, and how many words have each length and use
+ * each letter.
+ * </p>
+ *
+ * <p>
+ * The tries and the packed dictionary report the exact size of their arrays. Collections of
+ * Strings can't, so they are measured by how much the used heap grows when one is filled, which
+ * is only an estimate.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public class DictionaryStats {
+    /**
+     * How many bytes are in a mebibyte.
+     */
+    private static final double MEBIBYTE = 1024.0 * 1024.0;
+    
+    /**
+     * Entry point for program.
+     *
+     * @param args word list
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: DictionaryStats <word list>");
+            return;
+        }
+        try {
+            Path path = Path.of(args[0]);
+            DictionaryLoader.Stats loadStats = new DictionaryLoader().load(path).stats();
+            System.out.println("Load: " + loadStats);
+            System.out.print("Word lengths:\n" + loadStats.lengthReport());
+            System.out.print("Letters:\n" + loadStats.letterReport());
+            ArrayTrie trie = ArrayTrie.load(path);
+            Dawg dawg = Dawg.of(trie);
+            System.out.println("Words: " + trie.wordCount());
+            System.out.printf("ArrayTrie: %d nodes, %.2f MiB%n", trie.nodeCount(),
+                    trie.heapBytes() / MEBIBYTE);
+            System.out.printf("Dawg: %d nodes, %d edges, %.2f MiB%n", dawg.nodeCount(),
+                    dawg.edgeCount(), dawg.heapBytes() / MEBIBYTE);
+            System.out.printf("PackedDictionary: %.2f MiB%n",
+                    PackedDictionary.load(path).heapBytes() / MEBIBYTE);
+            printCollection("HashSet", HashSet::new, path);
+            printCollection("TreeSet", TreeSet::new, path);
+            printCollection("ArrayList", ArrayList::new, path);
+            printCollection("LinkedList", LinkedList::new, path);
+            printCollection("LinkedHashSet", LinkedHashSet::new, path);
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e);
+        }
+    }
+    
+    /**
+     * Fills a collection with a word list and prints how much the used heap grew.
+     *
+     * @param name       the name to print for the collection
+     * @param collection makes the empty collection
+     * @param path       the path of the file with words
+     * @throws IOException if there was a problem reading the file
+     */
+    private static void printCollection(String name, Supplier<Collection<String>> collection,
+                                        Path path) throws IOException {
+        long before = usedHeap();
+        Collection<String> words = collection.get();
+        words.addAll(Files.readAllLines(path));
+        long after = usedHeap();
+        System.out.printf("%s: %.2f MiB%n", name, (after - before) / MEBIBYTE);
+        words.clear();
+    }
+    
+    /**
+     * Gets how much heap is in use after asking for a garbage collection.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Program to find every word in a grid file too big to load as a {@link Grid}.
+ *
+ * <p>
+ * The grid file is mapped into memory as a {@link LargeGrid} and searched a tile at a time by a
+ * {@link TiledSolver}, so a grid of millions of cells only needs memory for the tiles being
+ * searched and the words found.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public class TiledSearch {
+    /**
+     * Printed if an unexpected value was found.
+     */
+    private static final String UNEXPECTED_VALUE = "Unexpected value: ";
+    /**
+     * Prefix of the option giving the tile size.
+     */
+    private static final String TILE_OPTION = "tile=";
+    
+    /**
+     * Entry point for program.
+     *
+     * @param args Ruleset (4way, 8way, hex or knight), grid file, word list (or compiled .trie
+     *             or .dawg file), then optionally tile=&lt;n&gt; for the size of each tile and q
+     *             to only print the run time
+     */
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Usage: TiledSearch <rules> <grid file> <dictionary> " +
+                    "[tile=" + TiledSolver.DEFAULT_TILE_SIZE + "] [q]");
+            return;
+        }
+        try {
+            boolean quiet = false;
+            int tileSize = TiledSolver.DEFAULT_TILE_SIZE;
+            for (int i = 3; i < args.length; i++) {
+                if (args[i].equals("q")) {
+                    quiet = true;
+                } else if (args[i].startsWith(TILE_OPTION)) {
+                    tileSize = Integer.parseInt(args[i].substring(TILE_OPTION.length()));
+                } else {
+                    throw new IllegalArgumentException(UNEXPECTED_VALUE + args[i]);
+                }
+            }
+            NeighbourRule rule = StandardRule.forName(args[0]);
+            Path dictionary = Path.of(args[2]);
+            PrefixIndex index;
+            if (args[2].endsWith(".trie")) {
+                index = MappedTrie.map(dictionary);
+            } else if (args[2].endsWith(".dawg")) {
+                index = Dawg.map(dictionary);
+            } else {
+                index = ArrayTrie.load(dictionary);
+            }
+            LargeGrid grid = LargeGrid.map(Path.of(args[1]));
+            TiledSolver solver = new TiledSolver(index, rule);
+            solver.setTileSize(tileSize);
+            
+            Instant start = Instant.now();
+            Set<String> words = solver.solve(grid);
+            Duration runTime = Duration.between(start, Instant.now());
+            if (!quiet) {
+                System.out.println("Words Found:");
+                for (String word : words) {
+                    System.out.println(word);
+                }
+                System.out.println("Total Words found: " + words.size());
+            }
+            System.out.println("Grid: " + grid.rows() + "x" + grid.cols() + ", tiles of " +
+                    tileSize + " with a halo of " + solver.halo());
+            System.out.printf("Run Time: %.3f seconds (%.0f cells per second)%n",
+                    runTime.toNanos() / 1e9,
+                    grid.cellCount() * 1e9 / Math.max(1, runTime.toNanos()));
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+}
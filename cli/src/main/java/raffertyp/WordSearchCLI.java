@@ -0,0 +1,178 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: May 2023
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Program to search a Boggle board for possible words and benchmark a Collection.
+ *
+ * @author Patrick Rafferty
+ */
+public class WordSearchCLI {
+    /**
+     * Printed if an unexpected value was found.
+     */
+    private static final String UNEXPECTED_VALUE = "Unexpected value: ";
+    /**
+     * Prefix of the option giving the time limit in milliseconds.
+     */
+    private static final String TIME_OPTION = "time=";
+    /**
+     * Prefix of the option giving the word limit.
+     */
+    private static final String WORDS_OPTION = "words=";
+    
+    /**
+     * Entry point for program.
+     *
+     * @param args Ruleset (or lines to find words in straight lines like a classic word search),
+     *             grid file, word list (or compiled .trie or .dawg file), Collection type
+     *             (or Trie, or Packed for a {@link PackedDictionary}), then optionally q to
+     *             only print the run time, time=&lt;ms&gt; to stop searching after a time
+     *             limit, words=&lt;n&gt; to stop after finding a number of words, filter to
+     *             cut the dictionary down to the words the grid has enough letters for first
+     *             and metrics to print what loading and the search did. Words are printed
+     *             in the order they were found when searching with a trie or packed
+     *             dictionary, once the search has stopped so printing isn't timed
+     */
+    public static void main(String[] args) {
+        try {
+            boolean quiet = false;
+            boolean filter = false;
+            boolean metrics = false;
+            Duration timeLimit = null;
+            long maxWords = Long.MAX_VALUE;
+            for (int i = 4; i < args.length; i++) {
+                if (args[i].equals("q")) {
+                    quiet = true;
+                } else if (args[i].equals("filter")) {
+                    filter = true;
+                } else if (args[i].equals("metrics")) {
+                    metrics = true;
+                } else if (args[i].startsWith(TIME_OPTION)) {
+                    timeLimit = Duration.ofMillis(
+                            Long.parseLong(args[i].substring(TIME_OPTION.length())));
+                } else if (args[i].startsWith(WORDS_OPTION)) {
+                    maxWords = Long.parseLong(args[i].substring(WORDS_OPTION.length()));
+                } else {
+                    throw new IllegalArgumentException(UNEXPECTED_VALUE + args[i]);
+                }
+            }
+            boolean streaming = args[2].endsWith(".trie") || args[2].endsWith(".dawg") ||
+                    args[3].equals("Trie") || args[3].equals("Packed");
+            if (!streaming && (timeLimit != null || maxWords != Long.MAX_VALUE)) {
+                throw new IllegalArgumentException("Time and word limits need a Trie");
+            }
+            GameBoard gameBoard;
+            DictionaryLoader.Stats loadStats = null;
+            if (args[2].endsWith(".trie")) {
+                gameBoard = new GameBoard(MappedTrie.map(Path.of(args[2])));
+            } else if (args[2].endsWith(".dawg")) {
+                gameBoard = new GameBoard(Dawg.map(Path.of(args[2])));
+            } else {
+                DictionaryLoader.Result loaded = new DictionaryLoader().load(Path.of(args[2]));
+                loadStats = loaded.stats();
+                List<String> dictionary = loaded.words();
+                if (args[3].equals("Packed")) {
+                    gameBoard = new GameBoard(PackedDictionary.of(dictionary));
+                } else {
+                    gameBoard = args[3].equals("Trie") ? new GameBoard() : new GameBoard(
+                            switch (args[3]) {
+                                case "ArrayList" -> new ArrayList<>(dictionary.size());
+                                case "LinkedList" -> new LinkedList<>();
+                                case "HashSet" -> HashSet.newHashSet(dictionary.size());
+                                case "TreeSet" -> new TreeSet<>();
+                                case "LinkedHashSet" ->
+                                        LinkedHashSet.newLinkedHashSet(dictionary.size());
+                                default -> throw new IllegalArgumentException(
+                                        UNEXPECTED_VALUE + args[3]);
+                            });
+                    gameBoard.loadDictionary(dictionary);
+                }
+            }
+            Grid grid = Grid.load(Path.of(args[1]));
+            gameBoard.loadGrid(grid);
+            gameBoard.setPreFilter(filter);
+            gameBoard.setMetricsEnabled(metrics);
+            boolean lines = args[0].equals("lines");
+            NeighbourRule rule = lines ? null : StandardRule.forName(args[0]);
+            // Streamed words are kept until the clock stops, so printing isn't timed
+            Queue<String> streamed = new ConcurrentLinkedQueue<>();
+            Instant start = Instant.now();
+            long wordsFound;
+            if (lines) {
+                List<LineMatch> matches = gameBoard.findLines();
+                if (!quiet) {
+                    System.out.println("Words Found:");
+                    for (LineMatch match : matches) {
+                        System.out.println(match);
+                    }
+                }
+                wordsFound = matches.size();
+            } else if (streaming) {
+                boolean keep = !quiet;
+                SearchControl control = SearchControl.of(timeLimit, maxWords);
+                gameBoard.findWords(rule, (word, path) -> {
+                    if (keep) {
+                        streamed.add(word);
+                    }
+                }, control);
+                wordsFound = control.wordCount();
+            } else {
+                Set<String> words = gameBoard.findWords(rule);
+                if (!quiet) {
+                    System.out.println("Words Found:");
+                    for (String word : words) {
+                        System.out.println(word);
+                    }
+                }
+                wordsFound = words.size();
+            }
+            Duration runTime = Duration.between(start, Instant.now());
+            if (streaming && !lines && !quiet) {
+                System.out.println("Words Found:");
+                for (String word : streamed) {
+                    System.out.println(word);
+                }
+            }
+            if (!quiet) {
+                System.out.println("Total Words found: " + wordsFound);
+            }
+            if (filter) {
+                System.out.println("Dictionary filter: " + gameBoard.getFilterStats());
+            }
+            if (metrics) {
+                if (loadStats != null) {
+                    System.out.println("Dictionary load: " + loadStats);
+                }
+                SearchMetrics searchMetrics = gameBoard.getMetrics();
+                System.out.print(searchMetrics == null ? "Metrics need a Trie\n" :
+                        searchMetrics.report(grid.cols()));
+            }
+            System.out.println(
+                    "Run Time: " + runTime.toSeconds() + '.' + runTime.toNanosPart() + " seconds");
+        } catch (IOException e) {
+            System.err.println("Error reading file: " + e);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Arrays;
+
+/**
+ * The neighbours of every cell in a grid, worked out once from a {@link NeighbourRule}.
+ *
+ * <p>
+ * The neighbours of all the cells are stored one after another in a single array, and a second
+ * array holds where each cell's neighbours start. The neighbours of cell {@code c} are at indices
+ * {@code start(c)} up to {@code end(c)}, so a search only has to scan an array.
+ * </p>
+ *
+ * <p>
+ * Grids with at most {@value #MAX_MASK_CELLS} cells also get a bit mask of each cell's neighbours,
+ * with bit {@code n} set if cell {@code n} is a neighbour, for {@link BitboardSearch}.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class Adjacency {
+    /**
+     * Most cells a grid can have to get neighbour masks.
+     */
+    public static final int MAX_MASK_CELLS = Long.SIZE;
+    /**
+     * Where each cell's neighbours start, with one extra entry for the end of the last cell.
+     */
+    private final int[] offsets;
+    /**
+     * The neighbours of every cell, one cell after another.
+     */
+    private final int[] neighbours;
+    /**
+     * Bit mask of each cell's neighbours, null if the grid has too many cells.
+     */
+    private final long[] masks;
+    
+    /**
+     * Creates an adjacency table from already built arrays, adding neighbour masks if the grid is
+     * small enough.
+     *
+     * @param offsets    where each cell's neighbours start
+     * @param neighbours the neighbours of every cell
+     */
+    private Adjacency(int[] offsets, int[] neighbours) {
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+        int cellCount = offsets.length - 1;
+        if (cellCount > MAX_MASK_CELLS) {
+            masks = null;
+            return;
+        }
+        masks = new long[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            for (int i = offsets[cell]; i < offsets[cell + 1]; i++) {
+                masks[cell] |= 1L << neighbours[i];
+            }
+        }
+    }
+    
+    /**
+     * Works out the neighbours of every cell in a grid. A cell is never its own neighbour and no
+     * neighbour is listed twice, even if the rule wraps around a small grid.
+     *
+     * @param rows how many rows are in the grid
+     * @param cols how many columns are in the grid
+     * @param rule the rule for which cells are neighbours
+     * @return the adjacency table
+     */
+    public static Adjacency of(int rows, int cols, NeighbourRule rule) {
+        int cellCount = rows * cols;
+        int[] offsets = new int[cellCount + 1];
+        int[] neighbours = new int[cellCount * 8];
+        int size = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            int self = cell;
+            int[] cellNeighbours = rule.neighbours(cell / cols, cell % cols, rows, cols)
+                    .filter(neighbour -> neighbour != self).distinct().toArray();
+            if (size + cellNeighbours.length > neighbours.length) {
+                neighbours = Arrays.copyOf(neighbours,
+                        Math.max(neighbours.length * 2, size + cellNeighbours.length));
+            }
+            System.arraycopy(cellNeighbours, 0, neighbours, size, cellNeighbours.length);
+            size += cellNeighbours.length;
+            offsets[cell + 1] = size;
+        }
+        return new Adjacency(offsets, Arrays.copyOf(neighbours, size));
+    }
+    
+    /**
+     * Gets how many cells are in the grid.
+     *
+     * @return the number of cells
+     */
+    public int cellCount() {
+        return offsets.length - 1;
+    }
+    
+    /**
+     * Gets the index of a cell's first neighbour.
+     *
+     * @param cell the id of the cell
+     * @return the index to pass to {@link #neighbour(int)}
+     */
+    public int start(int cell) {
+        return offsets[cell];
+    }
+    
+    /**
+     * Gets the index just past a cell's last neighbour.
+     *
+     * @param cell the id of the cell
+     * @return the end index, exclusive
+     */
+    public int end(int cell) {
+        return offsets[cell + 1];
+    }
+    
+    /**
+     * Gets a neighbour from the table.
+     *
+     * @param index the index, from {@link #start(int)} up to {@link #end(int)}
+     * @return the id of the neighbouring cell
+     */
+    public int neighbour(int index) {
+        return neighbours[index];
+    }
+    
+    /**
+     * Checks if this table has neighbour masks, which it does if the grid has at most
+     * {@value #MAX_MASK_CELLS} cells.
+     *
+     * @return true if {@link #neighbourMask(int)} can be used
+     */
+    public boolean hasMasks() {
+        return masks != null;
+    }
+    
+    /**
+     * Gets the neighbours of a cell as a bit mask.
+     *
+     * @param cell the id of the cell
+     * @return a mask with bit {@code n} set if cell {@code n} is a neighbour
+     * @throws IllegalStateException if the grid has more than {@value #MAX_MASK_CELLS} cells
+     */
+    public long neighbourMask(int cell) {
+        if (masks == null) {
+            throw new IllegalStateException("Grids with more than " + MAX_MASK_CELLS +
+                    " cells have no neighbour masks");
+        }
+        return masks[cell];
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A trie stored in flat int arrays instead of node objects.
+ *
+ * <p>
+ * Each node has a mask with one bit per letter it has a child for, and the index of its first
+ * child. Children of a node are stored next to each other in letter order, so a child is found by
+ * counting the set bits below its letter. Only words made of the letters a-z are indexed.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public class ArrayTrie implements PrefixIndex {
+    /**
+     * How many letters a node can have children for.
+     */
+    static final int ALPHABET_SIZE = 26;
+    /**
+     * Bit set in a node's mask if the node ends a word.
+     */
+    static final int WORD_BIT = 1 << 31;
+    /**
+     * Child mask and word flag for each node.
+     */
+    private final int[] masks;
+    /**
+     * Index of the first child of each node.
+     */
+    private final int[] firstChild;
+    /**
+     * How many words are in the trie.
+     */
+    private final int wordCount;
+    /**
+     * Length of the longest word in the trie.
+     */
+    private final int longestWordLength;
+    
+    /**
+     * Creates a trie from already built arrays.
+     *
+     * @param masks             child mask and word flag for each node
+     * @param firstChild        index of the first child of each node
+     * @param wordCount         how many words are in the trie
+     * @param longestWordLength length of the longest word in the trie
+     */
+    ArrayTrie(int[] masks, int[] firstChild, int wordCount, int longestWordLength) {
+        this.masks = masks;
+        this.firstChild = firstChild;
+        this.wordCount = wordCount;
+        this.longestWordLength = longestWordLength;
+    }
+    
+    /**
+     * Builds a trie from a collection of words. Words with characters outside a-z are skipped.
+     *
+     * @param words the words to put in the trie
+     * @return the built trie
+     */
+    public static ArrayTrie of(Collection<String> words) {
+        String[] sorted = words.stream().filter(ArrayTrie::isIndexable).sorted().distinct()
+                .toArray(String[]::new);
+        int capacity = Math.max(16, sorted.length);
+        int[] masks = new int[capacity];
+        int[] firstChild = new int[capacity];
+        // Range of sorted words sharing each node's prefix, the prefix length is the node depth
+        int[] low = new int[capacity];
+        int[] high = new int[capacity];
+        int[] depth = new int[capacity];
+        high[0] = sorted.length;
+        int nodeCount = 1;
+        int longest = 0;
+        // Nodes are numbered breadth first so every node's children end up next to each other
+        for (int node = 0; node < nodeCount; node++) {
+            int start = low[node];
+            int end = high[node];
+            int length = depth[node];
+            if (start < end && sorted[start].length() == length) {
+                masks[node] |= WORD_BIT;
+                longest = Math.max(longest, length);
+                start++;
+            }
+            firstChild[node] = nodeCount;
+            while (start < end) {
+                char letter = sorted[start].charAt(length);
+                int groupEnd = start + 1;
+                while (groupEnd < end && sorted[groupEnd].charAt(length) == letter) {
+                    groupEnd++;
+                }
+                if (nodeCount == masks.length) {
+                    int newCapacity = nodeCount * 2;
+                    masks = Arrays.copyOf(masks, newCapacity);
+                    firstChild = Arrays.copyOf(firstChild, newCapacity);
+                    low = Arrays.copyOf(low, newCapacity);
+                    high = Arrays.copyOf(high, newCapacity);
+                    depth = Arrays.copyOf(depth, newCapacity);
+                }
+                masks[node] |= 1 << (letter - 'a');
+                low[nodeCount] = start;
+                high[nodeCount] = groupEnd;
+                depth[nodeCount] = length + 1;
+                nodeCount++;
+                start = groupEnd;
+            }
+        }
+        return new ArrayTrie(Arrays.copyOf(masks, nodeCount), Arrays.copyOf(firstChild, nodeCount),
+                sorted.length, longest);
+    }
+    
+    /**
+     * Builds a trie from a file with one word per line, read by a {@link DictionaryLoader}.
+     *
+     * @param path the path of the file with words
+     * @return the built trie
+     * @throws IOException if there was a problem reading the file
+     */
+    public static ArrayTrie load(Path path) throws IOException {
+        return of(new DictionaryLoader().load(path).words());
+    }
+    
+    /**
+     * Checks if a word only uses letters the trie can hold.
+     *
+     * @param word the word to check
+     * @return true if the word is not empty and only has the letters a-z
+     */
+    static boolean isIndexable(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char letter = word.charAt(i);
+            if (letter < 'a' || letter > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public int root() {
+        return 0;
+    }
+    
+    @Override
+    public int child(int node, char letter) {
+        int index = letter - 'a';
+        if (index < 0 || index >= ALPHABET_SIZE) {
+            return NONE;
+        }
+        int mask = masks[node];
+        int bit = 1 << index;
+        if ((mask & bit) == 0) {
+            return NONE;
+        }
+        return firstChild[node] + Integer.bitCount(mask & (bit - 1));
+    }
+    
+    @Override
+    public boolean isWord(int node) {
+        return (masks[node] & WORD_BIT) != 0;
+    }
+    
+    @Override
+    public int wordCount() {
+        return wordCount;
+    }
+    
+    @Override
+    public int longestWordLength() {
+        return longestWordLength;
+    }
+    
+    /**
+     * Gets how many nodes are in the trie.
+     *
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return masks.length;
+    }
+    
+    /**
+     * Gets roughly how many bytes of heap the trie's arrays take up.
+     *
+     * @return the size of the arrays in bytes
+     */
+    public long heapBytes() {
+        return 2L * masks.length * Integer.BYTES;
+    }
+    
+    /**
+     * Gets the child mask and word flag of a node.
+     *
+     * @param node the node
+     * @return the mask, with {@link #WORD_BIT} set if the node ends a word
+     */
+    int mask(int node) {
+        return masks[node];
+    }
+    
+    /**
+     * Gets the index of a node's first child.
+     *
+     * @param node the node
+     * @return the index of the first child
+     */
+    int firstChild(int node) {
+        return firstChild[node];
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Depth first search of a grid with at most {@value Adjacency#MAX_MASK_CELLS} cells, using bit
+ * masks for the cells in the current path and for each cell's neighbours.
+ *
+ * <p>
+ * The cells in the current path fit in a single long, and the neighbours still to try at each
+ * depth are the cell's neighbour mask minus that path, so the next neighbour is found with
+ * {@link Long#numberOfTrailingZeros(long)} instead of scanning the adjacency table and checking
+ * each neighbour against a bit set. Like {@link StackSearch}, an instance is not thread safe and
+ * parallel searches should each use their own instance and {@link #merge(BitboardSearch)} them
+ * afterwards.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+final class BitboardSearch {
+    /**
+     * The dictionary to search with.
+     */
+    private final PrefixIndex index;
+    /**
+     * Letter of each cell, indexed by cell id.
+     */
+    private final char[] letters;
+    /**
+     * Bit mask of each cell's neighbours.
+     */
+    private final long[] neighbourMasks;
+    /**
+     * Letters of the current path.
+     */
+    private final char[] word;
+    /**
+     * Bit of the cell at each depth of the current path.
+     */
+    private final long[] steps;
+    /**
+     * Prefix index node at each depth of the current path.
+     */
+    private final int[] nodes;
+    /**
+     * Neighbours not yet tried at each depth of the current path.
+     */
+    private final long[] untried;
+    /**
+     * Words found by this search.
+     */
+    private final Set<String> words = new LinkedHashSet<>();
+    /**
+     * Counts what this search does, null if it isn't being measured.
+     */
+    private final SearchMetrics.Counter counter;
+    
+    /**
+     * Creates a search over a grid.
+     *
+     * @param index     the dictionary to search with
+     * @param letters   letter of each cell, indexed by cell id
+     * @param adjacency the neighbours of each cell, which must have neighbour masks
+     */
+    BitboardSearch(PrefixIndex index, char[] letters, Adjacency adjacency) {
+        this(index, letters, adjacency, null);
+    }
+    
+    /**
+     * Creates a search over a grid that counts what it does.
+     *
+     * @param index     the dictionary to search with
+     * @param letters   letter of each cell, indexed by cell id
+     * @param adjacency the neighbours of each cell, which must have neighbour masks
+     * @param metrics   where to count what the search does, or null to not count
+     */
+    BitboardSearch(PrefixIndex index, char[] letters, Adjacency adjacency,
+                   SearchMetrics metrics) {
+        this.index = index;
+        counter = metrics == null ? null : metrics.counter();
+        this.letters = letters;
+        neighbourMasks = new long[letters.length];
+        for (int cell = 0; cell < letters.length; cell++) {
+            neighbourMasks[cell] = adjacency.neighbourMask(cell);
+        }
+        int maxDepth = Math.max(1, Math.min(index.longestWordLength(), letters.length));
+        word = new char[maxDepth];
+        steps = new long[maxDepth];
+        nodes = new int[maxDepth];
+        untried = new long[maxDepth];
+    }
+    
+    /**
+     * Finds every word whose path starts at a cell.
+     *
+     * @param start the id of the start cell
+     */
+    void search(int start) {
+        if (counter != null) {
+            counter.start();
+            run(start);
+            counter.finish(start);
+        } else {
+            run(start);
+        }
+    }
+    
+    /**
+     * Helper to find every word whose path starts at a cell.
+     *
+     * @param start the id of the start cell
+     */
+    private void run(int start) {
+        int node = index.child(index.root(), letters[start]);
+        if (counter != null) {
+            if (node == PrefixIndex.NONE) {
+                counter.pruned(1);
+            } else {
+                counter.expanded(1);
+            }
+        }
+        if (node == PrefixIndex.NONE) {
+            return;
+        }
+        long path = 1L << start;
+        steps[0] = path;
+        word[0] = letters[start];
+        nodes[0] = node;
+        untried[0] = word.length > 1 ? neighbourMasks[start] : 0;
+        int depth = 0;
+        while (depth >= 0) {
+            long candidates = untried[depth];
+            if (candidates == 0) {
+                if (counter != null) {
+                    counter.popped(depth + 1);
+                }
+                path &= ~steps[depth];
+                depth--;
+                continue;
+            }
+            long bit = candidates & -candidates;
+            untried[depth] = candidates ^ bit;
+            int neighbour = Long.numberOfTrailingZeros(bit);
+            int child = index.child(nodes[depth], letters[neighbour]);
+            if (counter != null) {
+                if (child == PrefixIndex.NONE) {
+                    counter.pruned(depth + 2);
+                } else {
+                    counter.expanded(depth + 2);
+                }
+            }
+            if (child == PrefixIndex.NONE) {
+                continue;
+            }
+            depth++;
+            path |= bit;
+            steps[depth] = bit;
+            word[depth] = letters[neighbour];
+            nodes[depth] = child;
+            untried[depth] = depth + 1 < word.length ? neighbourMasks[neighbour] & ~path : 0;
+            if (depth + 1 >= GameBoard.MIN_WORD_LENGTH && index.isWord(child)) {
+                if (counter != null) {
+                    counter.found();
+                }
+                words.add(new String(word, 0, depth + 1));
+            }
+        }
+    }
+    
+    /**
+     * Adds the words found by another search to this one.
+     *
+     * @param other the other search
+     */
+    void merge(BitboardSearch other) {
+        words.addAll(other.words);
+    }
+    
+    /**
+     * Gets the words found so far.
+     *
+     * @return the found words
+     */
+    Set<String> words() {
+        return words;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Makes random grids, either by rolling a set of Boggle dice or by drawing letters from a
+ * distribution.
+ *
+ * <p>
+ * Rolling dice shuffles the dice into the cells and rolls each one. Grids bigger than the set
+ * use the set more than once. Drawing letters picks each cell's letter on its own, weighted by
+ * how common the letter is. A generator has no state of its own, so it can be shared between
+ * threads as long as each thread uses its own random generator.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class BoardGenerator {
+    /**
+     * The dice to roll, null if letters are drawn instead.
+     */
+    private final DiceSet dice;
+    /**
+     * The letters that can be drawn.
+     */
+    private final char[] alphabet;
+    /**
+     * The chance of drawing each letter or any letter before it, the last being 1.
+     */
+    private final double[] cumulative;
+    
+    /**
+     * Creates a generator.
+     *
+     * @param dice       the dice to roll, or null to draw letters
+     * @param alphabet   the letters that can be drawn
+     * @param cumulative the chance of drawing each letter or any letter before it
+     */
+    private BoardGenerator(DiceSet dice, char[] alphabet, double[] cumulative) {
+        this.dice = dice;
+        this.alphabet = alphabet;
+        this.cumulative = cumulative;
+    }
+    
+    /**
+     * Creates a generator that rolls a set of dice.
+     *
+     * @param dice the dice to roll
+     * @return the generator
+     */
+    public static BoardGenerator of(DiceSet dice) {
+        return new BoardGenerator(dice, null, null);
+    }
+    
+    /**
+     * Creates a generator where every letter from a to z is equally likely.
+     *
+     * @return the generator
+     */
+    public static BoardGenerator uniform() {
+        Map<Character, Double> weights = new TreeMap<>();
+        for (char letter = 'a'; letter <= 'z'; letter++) {
+            weights.put(letter, 1.0);
+        }
+        return weighted(weights);
+    }
+    
+    /**
+     * Creates a generator that draws letters as often as they appear in a list of words, so
+     * grids look like the language the words are from.
+     *
+     * @param words the words to count letters in
+     * @return the generator
+     * @throws IllegalArgumentException if the words have no letters
+     */
+    public static BoardGenerator fromWords(Collection<String> words) {
+        long[] counts = new long[Character.MAX_VALUE + 1];
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                char letter = Character.toLowerCase(word.charAt(i));
+                if (Character.isLetter(letter)) {
+                    counts[letter]++;
+                }
+            }
+        }
+        Map<Character, Long> weights = new TreeMap<>();
+        for (int letter = 0; letter < counts.length; letter++) {
+            if (counts[letter] != 0) {
+                weights.put((char) letter, counts[letter]);
+            }
+        }
+        return weighted(weights);
+    }
+    
+    /**
+     * Creates a generator that draws letters with given weights. A letter with twice the weight
+     * of another is drawn twice as often.
+     *
+     * @param weights the weight of each letter
+     * @return the generator
+     * @throws IllegalArgumentException if a weight is negative or not a number, or no weight is
+     *                                  more than 0
+     */
+    public static BoardGenerator weighted(Map<Character, ? extends Number> weights) {
+        Map<Character, Double> kept = new TreeMap<>();
+        double total = 0;
+        for (Map.Entry<Character, ? extends Number> entry : weights.entrySet()) {
+            double weight = entry.getValue().doubleValue();
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException(
+                        "Weight of " + entry.getKey() + " must be at least 0: " + weight);
+            }
+            if (weight > 0) {
+                kept.put(Character.toLowerCase(entry.getKey()), weight);
+                total += weight;
+            }
+        }
+        if (kept.isEmpty()) {
+            throw new IllegalArgumentException("No letter has a weight above 0");
+        }
+        char[] alphabet = new char[kept.size()];
+        double[] cumulative = new double[kept.size()];
+        double sum = 0;
+        int i = 0;
+        for (Map.Entry<Character, Double> entry : kept.entrySet()) {
+            sum += entry.getValue();
+            alphabet[i] = entry.getKey();
+            cumulative[i++] = sum / total;
+        }
+        // Rounding can leave the last chance just under 1
+        cumulative[cumulative.length - 1] = 1;
+        return new BoardGenerator(null, alphabet, cumulative);
+    }
+    
+    /**
+     * Makes a random grid.
+     *
+     * @param rows   how many rows the grid has
+     * @param cols   how many columns the grid has
+     * @param random where the randomness comes from
+     * @return the grid
+     * @throws IllegalArgumentException if the grid has no cells
+     */
+    public Grid generate(int rows, int cols, RandomGenerator random) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid of " + rows + "x" + cols + " has no cells");
+        }
+        return dice != null ? roll(rows, cols, random) : draw(rows, cols, random);
+    }
+    
+    /**
+     * Makes an endless stream of random grids. Grid i of a seed is always the same, even when the
+     * stream is run in parallel, since each grid gets its own random generator.
+     *
+     * @param rows how many rows each grid has
+     * @param cols how many columns each grid has
+     * @param seed picks which grids are made
+     * @return the grids
+     * @throws IllegalArgumentException if the grids have no cells
+     */
+    public Stream<Grid> boards(int rows, int cols, long seed) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid of " + rows + "x" + cols + " has no cells");
+        }
+        long first = new SplittableRandom(seed).nextLong();
+        return LongStream.range(0, Long.MAX_VALUE)
+                .mapToObj(i -> generate(rows, cols, new SplittableRandom(first + i)));
+    }
+    
+    /**
+     * Helper to make a grid by shuffling the dice into the cells and rolling them.
+     *
+     * @param rows   how many rows the grid has
+     * @param cols   how many columns the grid has
+     * @param random where the randomness comes from
+     * @return the grid
+     */
+    private Grid roll(int rows, int cols, RandomGenerator random) {
+        int[] order = new int[rows * cols];
+        for (int cell = 0; cell < order.length; cell++) {
+            int swap = random.nextInt(cell + 1);
+            order[cell] = order[swap];
+            order[swap] = cell % dice.size();
+        }
+        String[] cells = new String[order.length];
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = dice.face(order[cell], random.nextInt(dice.faceCount(order[cell])));
+        }
+        return Grid.ofTiles(rows, cols, Arrays.asList(cells));
+    }
+    
+    /**
+     * Helper to make a grid by drawing each cell's letter.
+     *
+     * @param rows   how many rows the grid has
+     * @param cols   how many columns the grid has
+     * @param random where the randomness comes from
+     * @return the grid
+     */
+    private Grid draw(int rows, int cols, RandomGenerator random) {
+        char[] letters = new char[rows * cols];
+        for (int cell = 0; cell < letters.length; cell++) {
+            // The letter drawn is the first one whose cumulative chance is above the number
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            letters[cell] = alphabet[index < 0 ? -index - 1 : index + 1];
+        }
+        return Grid.of(rows, cols, letters);
+    }
+}
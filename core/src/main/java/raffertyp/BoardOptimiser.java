@@ -0,0 +1,227 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Searches for the highest scoring grid for a dictionary and neighbour rule by simulated
+ * annealing.
+ *
+ * <p>
+ * Each chain starts from a random grid and keeps changing it, either giving a cell a new letter
+ * or swapping two cells. A change that scores at least as well is kept. A worse change is kept
+ * with a chance that shrinks with how much worse it is and with the temperature, which cools to
+ * nothing over the chain, so chains wander early on and only climb at the end. A start
+ * temperature of 0 is plain hill climbing. Changes are made to the chain's letter array in place
+ * and undone if they aren't kept, and each grid is scored by a {@link BoardScorer}, so a chain
+ * makes no objects between its start and its result.
+ * </p>
+ *
+ * <p>
+ * Chains don't share anything, so they run in parallel on every core and the best grid of all
+ * the chains wins. Chain i is seeded from the seed and i, so the same seed always finds the same
+ * grid however many threads there are. Only grids of up to {@value Adjacency#MAX_MASK_CELLS}
+ * cells can be optimised.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class BoardOptimiser {
+    /**
+     * How many letters a cell can have.
+     */
+    private static final int ALPHABET_SIZE = 26;
+    /**
+     * The dictionary to score with.
+     */
+    private final ArrayTrie index;
+    /**
+     * The rule for which cells a word can move between.
+     */
+    private final NeighbourRule rule;
+    /**
+     * How many chains to run.
+     */
+    private int chains = Runtime.getRuntime().availableProcessors();
+    /**
+     * How many changes each chain tries.
+     */
+    private long steps = 100_000;
+    /**
+     * The temperature each chain starts at.
+     */
+    private double startTemperature = 3;
+    
+    /**
+     * Creates an optimiser.
+     *
+     * @param index the dictionary to score with
+     * @param rule  the rule for which cells a word can move between
+     */
+    public BoardOptimiser(ArrayTrie index, NeighbourRule rule) {
+        this.index = index;
+        this.rule = rule;
+    }
+    
+    /**
+     * Sets how many independent chains to run. Defaults to one per processor.
+     *
+     * @param chains the number of chains
+     * @throws IllegalArgumentException if there are no chains
+     */
+    public void setChains(int chains) {
+        if (chains < 1) {
+            throw new IllegalArgumentException("Must run at least 1 chain: " + chains);
+        }
+        this.chains = chains;
+    }
+    
+    /**
+     * Sets how many changes each chain tries. Defaults to 100,000.
+     *
+     * @param steps the number of changes
+     * @throws IllegalArgumentException if the number is negative
+     */
+    public void setSteps(long steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("Steps can't be negative: " + steps);
+        }
+        this.steps = steps;
+    }
+    
+    /**
+     * Sets the temperature each chain starts at, roughly how many points worse a change can be
+     * and still often be kept early on. Defaults to 3, 0 is hill climbing.
+     *
+     * @param startTemperature the start temperature
+     * @throws IllegalArgumentException if the temperature is negative or not a number
+     */
+    public void setStartTemperature(double startTemperature) {
+        if (!(startTemperature >= 0)) {
+            throw new IllegalArgumentException(
+                    "Temperature can't be negative: " + startTemperature);
+        }
+        this.startTemperature = startTemperature;
+    }
+    
+    /**
+     * Searches for the highest scoring grid of a size.
+     *
+     * @param rows how many rows the grid has
+     * @param cols how many columns the grid has
+     * @param seed the seed for the chains
+     * @return the best grid found by any chain
+     * @throws IllegalArgumentException if the grid is empty or has more than
+     *                                  {@value Adjacency#MAX_MASK_CELLS} cells
+     */
+    public Result optimise(int rows, int cols, long seed) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Adjacency.MAX_MASK_CELLS) {
+            throw new IllegalArgumentException("Can't optimise a grid of " + rows + "x" + cols);
+        }
+        long start = System.nanoTime();
+        Adjacency adjacency = Adjacency.of(rows, cols, rule);
+        long first = new SplittableRandom(seed).nextLong();
+        Chain best = IntStream.range(0, chains).parallel()
+                .mapToObj(chain -> run(new SplittableRandom(first + chain), rows * cols,
+                        adjacency))
+                .reduce((a, b) -> b.score > a.score ? b : a).orElseThrow();
+        return new Result(Grid.of(rows, cols, best.letters), best.score, best.wordCount,
+                (long) chains * (steps + 1), Duration.ofNanos(System.nanoTime() - start));
+    }
+    
+    /**
+     * Helper to run one chain.
+     *
+     * @param random    the chain's random numbers
+     * @param cellCount how many cells the grid has
+     * @param adjacency the neighbours of each cell
+     * @return the best grid the chain found
+     */
+    private Chain run(SplittableRandom random, int cellCount, Adjacency adjacency) {
+        char[] letters = new char[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            letters[cell] = (char) ('a' + random.nextInt(ALPHABET_SIZE));
+        }
+        BoardScorer scorer = new BoardScorer(index, letters, adjacency);
+        int score = scorer.score();
+        Chain best = new Chain(letters.clone(), score, scorer.wordCount());
+        for (long step = 0; step < steps; step++) {
+            double temperature = startTemperature * (steps - step) / steps;
+            int cell = random.nextInt(cellCount);
+            int other = random.nextInt(cellCount);
+            char letter = letters[cell];
+            if (other != cell && random.nextBoolean()) {
+                letters[cell] = letters[other];
+                letters[other] = letter;
+            } else {
+                letters[cell] = (char) ('a' + random.nextInt(ALPHABET_SIZE));
+                other = cell;
+            }
+            int next = scorer.score();
+            if (next >= score || temperature > 0 &&
+                    random.nextDouble() < Math.exp((next - score) / temperature)) {
+                score = next;
+                if (score > best.score) {
+                    System.arraycopy(letters, 0, best.letters, 0, cellCount);
+                    best.score = score;
+                    best.wordCount = scorer.wordCount();
+                }
+            } else {
+                letters[other] = letters[cell];
+                letters[cell] = letter;
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * The best grid a chain found so far.
+     */
+    private static final class Chain {
+        /**
+         * Letter of each cell of the best grid.
+         */
+        private final char[] letters;
+        /**
+         * The best grid's score.
+         */
+        private int score;
+        /**
+         * How many words the best grid has.
+         */
+        private int wordCount;
+        
+        /**
+         * Creates the best grid of a chain.
+         *
+         * @param letters   letter of each cell
+         * @param score     the grid's score
+         * @param wordCount how many words the grid has
+         */
+        private Chain(char[] letters, int score, int wordCount) {
+            this.letters = letters;
+            this.score = score;
+            this.wordCount = wordCount;
+        }
+    }
+    
+    /**
+     * The best grid found.
+     *
+     * @param grid        the grid
+     * @param score       the total Boggle score of its words
+     * @param wordCount   how many words it has
+     * @param evaluations how many grids were scored by all the chains
+     * @param time        how long the search took
+     */
+    public record Result(Grid grid, int score, int wordCount, long evaluations, Duration time) {
+    }
+}
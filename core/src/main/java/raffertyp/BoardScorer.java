@@ -0,0 +1,161 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Arrays;
+
+/**
+ * Scores a grid that is changed in place, without making any objects while scoring.
+ *
+ * <p>
+ * The search is the same as {@link BitboardSearch}, but instead of building each word and adding
+ * it to a set, it marks the trie node the word ends at. Every word in an {@link ArrayTrie} ends
+ * at its own node, so a word counts once if its node wasn't marked yet. Marks are stamps that go
+ * up by one each time the grid is scored, so nothing has to be cleared between scores. Like the
+ * other searches, an instance is not thread safe.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+final class BoardScorer {
+    /**
+     * The dictionary to score with.
+     */
+    private final ArrayTrie index;
+    /**
+     * Letter of each cell, indexed by cell id. Shared with the caller, who changes it.
+     */
+    private final char[] letters;
+    /**
+     * Bit mask of each cell's neighbours.
+     */
+    private final long[] neighbourMasks;
+    /**
+     * Bit of the cell at each depth of the current path.
+     */
+    private final long[] steps;
+    /**
+     * Trie node at each depth of the current path.
+     */
+    private final int[] nodes;
+    /**
+     * Neighbours not yet tried at each depth of the current path.
+     */
+    private final long[] untried;
+    /**
+     * The stamp of the last score that found each trie node's word.
+     */
+    private final int[] stamps;
+    /**
+     * The stamp of the current score.
+     */
+    private int stamp;
+    /**
+     * How many words the last score found.
+     */
+    private int wordCount;
+    
+    /**
+     * Creates a scorer for a grid.
+     *
+     * @param index     the dictionary to score with
+     * @param letters   letter of each cell, indexed by cell id, read again on every score
+     * @param adjacency the neighbours of each cell, which must have neighbour masks
+     * @throws IllegalArgumentException if the adjacency has no neighbour masks
+     */
+    BoardScorer(ArrayTrie index, char[] letters, Adjacency adjacency) {
+        if (!adjacency.hasMasks()) {
+            throw new IllegalArgumentException("Grids of more than " +
+                    Adjacency.MAX_MASK_CELLS + " cells can't be scored: " + letters.length);
+        }
+        this.index = index;
+        this.letters = letters;
+        neighbourMasks = new long[letters.length];
+        for (int cell = 0; cell < letters.length; cell++) {
+            neighbourMasks[cell] = adjacency.neighbourMask(cell);
+        }
+        int maxDepth = Math.max(1, Math.min(index.longestWordLength(), letters.length));
+        steps = new long[maxDepth];
+        nodes = new int[maxDepth];
+        untried = new long[maxDepth];
+        stamps = new int[index.nodeCount()];
+    }
+    
+    /**
+     * Scores the grid's letters as they are now.
+     *
+     * @return the total Boggle score of every distinct word in the grid
+     */
+    int score() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+        wordCount = 0;
+        int score = 0;
+        for (int start = 0; start < letters.length; start++) {
+            score += score(start);
+        }
+        return score;
+    }
+    
+    /**
+     * Gets how many distinct words the last score found.
+     *
+     * @return the number of words
+     */
+    int wordCount() {
+        return wordCount;
+    }
+    
+    /**
+     * Helper to score the words whose paths start at a cell and weren't found already.
+     *
+     * @param start the id of the start cell
+     * @return the score of the new words
+     */
+    private int score(int start) {
+        int node = index.child(index.root(), letters[start]);
+        if (node == PrefixIndex.NONE) {
+            return 0;
+        }
+        int score = 0;
+        long path = 1L << start;
+        steps[0] = path;
+        nodes[0] = node;
+        untried[0] = steps.length > 1 ? neighbourMasks[start] : 0;
+        int depth = 0;
+        while (depth >= 0) {
+            long candidates = untried[depth];
+            if (candidates == 0) {
+                path &= ~steps[depth];
+                depth--;
+                continue;
+            }
+            long bit = candidates & -candidates;
+            untried[depth] = candidates ^ bit;
+            int neighbour = Long.numberOfTrailingZeros(bit);
+            int child = index.child(nodes[depth], letters[neighbour]);
+            if (child == PrefixIndex.NONE) {
+                continue;
+            }
+            depth++;
+            path |= bit;
+            steps[depth] = bit;
+            nodes[depth] = child;
+            untried[depth] = depth + 1 < steps.length ? neighbourMasks[neighbour] & ~path : 0;
+            if (depth + 1 >= GameBoard.MIN_WORD_LENGTH && stamps[child] != stamp &&
+                    index.isWord(child)) {
+                stamps[child] = stamp;
+                wordCount++;
+                score += GameBoard.score(depth + 1);
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+/**
+ * The result of checking a word a player claims to have found in a grid.
+ *
+ * @param word   the word as it was claimed
+ * @param status if the word counts, and why not if it doesn't
+ * @param score  the Boggle score of the word, 0 if it doesn't count
+ * @param path   a path that spells the word, null if it isn't in the grid or wasn't looked for
+ * @author Patrick Rafferty
+ */
+public record Claim(String word, Status status, int score, WordPath path) {
+    /**
+     * Checks if the claimed word counts.
+     *
+     * @return true if the word is in the dictionary and the grid
+     */
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+    
+    /**
+     * Why a claimed word does or doesn't count. Checks are made in this order, so a word too short
+     * to count is never looked up.
+     */
+    public enum Status {
+        /**
+         * The same word was already claimed in a different case, only the first claim counts.
+         */
+        DUPLICATE,
+        /**
+         * The word is shorter than the shortest word that counts.
+         */
+        TOO_SHORT,
+        /**
+         * The word isn't in the dictionary.
+         */
+        NOT_A_WORD,
+        /**
+         * No path through the grid spells the word.
+         */
+        NOT_ON_BOARD,
+        /**
+         * The word is in the dictionary and the grid.
+         */
+        VALID
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Checks claimed words against a grid by searching for a path that spells each one.
+ *
+ * <p>
+ * Only the word's own letters are followed, starting from the cells that hold its first letter,
+ * so checking a word visits a handful of cells instead of every path a full search would. The
+ * buffers are made once and reused for every word. Like {@link StackSearch}, an instance is not
+ * thread safe, parallel checks should each use their own instance and
+ * {@link #merge(ClaimSearch)} them afterwards.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+final class ClaimSearch {
+    /**
+     * Letter of each cell, indexed by cell id.
+     */
+    private final char[] letters;
+    /**
+     * The multi-letter tiles in the grid.
+     */
+    private final TileTable tiles;
+    /**
+     * The neighbours of each cell.
+     */
+    private final Adjacency adjacency;
+    /**
+     * The ids of the cells whose letters start with each letter, keyed by letter.
+     */
+    private final Map<Character, int[]> cellsByLetter;
+    /**
+     * Checks if a word is in the dictionary.
+     */
+    private final Predicate<String> dictionary;
+    /**
+     * Checks if the grid has enough of each letter to spell a word.
+     */
+    private final LetterFilter letterFilter;
+    /**
+     * Cell id at each depth of the current path.
+     */
+    private final int[] cells;
+    /**
+     * Index in the adjacency table of the next neighbour to try at each depth of the current path.
+     */
+    private final int[] next;
+    /**
+     * How many letters of the word are spelled by the current path up to each depth.
+     */
+    private final int[] spelled;
+    /**
+     * Bit set of the cells in the current path.
+     */
+    private final long[] visited;
+    /**
+     * The result for each word checked, in the order they were checked.
+     */
+    private final Map<String, Claim> claims = new LinkedHashMap<>();
+    
+    /**
+     * Creates a search to check words against a grid.
+     *
+     * @param letters       letter of each cell, indexed by cell id
+     * @param tiles         the multi-letter tiles in the grid
+     * @param adjacency     the neighbours of each cell
+     * @param cellsByLetter the ids of the cells whose letters start with each letter
+     * @param dictionary    checks if a word is in the dictionary
+     * @param letterFilter  the letter counts of the grid
+     */
+    ClaimSearch(char[] letters, TileTable tiles, Adjacency adjacency,
+                Map<Character, int[]> cellsByLetter, Predicate<String> dictionary,
+                LetterFilter letterFilter) {
+        this.letters = letters;
+        this.tiles = tiles;
+        this.adjacency = adjacency;
+        this.cellsByLetter = cellsByLetter;
+        this.dictionary = dictionary;
+        this.letterFilter = letterFilter;
+        cells = new int[letters.length];
+        next = new int[letters.length];
+        spelled = new int[letters.length];
+        visited = new long[(letters.length + Long.SIZE - 1) / Long.SIZE];
+    }
+    
+    /**
+     * Checks a claimed word and records the result.
+     *
+     * @param claimed the word as it was claimed
+     */
+    void check(String claimed) {
+        String word = claimed.toLowerCase(Locale.ROOT);
+        Claim.Status status;
+        WordPath path = null;
+        if (word.length() < GameBoard.MIN_WORD_LENGTH) {
+            status = Claim.Status.TOO_SHORT;
+        } else if (!dictionary.test(word)) {
+            status = Claim.Status.NOT_A_WORD;
+        } else if (!letterFilter.accepts(word) ||
+                (path = findPath(word)) == null) {
+            status = Claim.Status.NOT_ON_BOARD;
+        } else {
+            status = Claim.Status.VALID;
+        }
+        claims.put(claimed, new Claim(claimed, status,
+                status == Claim.Status.VALID ? GameBoard.score(word) : 0, path));
+    }
+    
+    /**
+     * Searches for a path that spells a word, trying each cell whose letters start the word.
+     *
+     * @param word the word to look for
+     * @return the first path found, or null if no path spells the word
+     */
+    private WordPath findPath(String word) {
+        for (int start : cellsByLetter.getOrDefault(word.charAt(0), new int[0])) {
+            int length = matches(start, word, 0);
+            if (length < 0) {
+                continue;
+            }
+            cells[0] = start;
+            next[0] = adjacency.start(start);
+            spelled[0] = length;
+            visited[start >>> 6] |= 1L << start;
+            int depth = 0;
+            while (depth >= 0) {
+                int cell = cells[depth];
+                if (spelled[depth] == word.length()) {
+                    WordPath path = WordPath.of(word, cells, depth + 1);
+                    for (; depth >= 0; depth--) {
+                        visited[cells[depth] >>> 6] &= ~(1L << cells[depth]);
+                    }
+                    return path;
+                }
+                if (next[depth] == adjacency.end(cell)) {
+                    visited[cell >>> 6] &= ~(1L << cell);
+                    depth--;
+                    continue;
+                }
+                int neighbour = adjacency.neighbour(next[depth]++);
+                if ((visited[neighbour >>> 6] & 1L << neighbour) == 0) {
+                    length = matches(neighbour, word, spelled[depth]);
+                    if (length >= 0) {
+                        depth++;
+                        cells[depth] = neighbour;
+                        next[depth] = adjacency.start(neighbour);
+                        spelled[depth] = spelled[depth - 1] + length;
+                        visited[neighbour >>> 6] |= 1L << neighbour;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Checks if a cell's letters come next in a word.
+     *
+     * @param cell     the id of the cell
+     * @param word     the word being spelled
+     * @param position how many letters of the word are already spelled
+     * @return how many letters the cell spells, or -1 if they aren't next in the word
+     */
+    private int matches(int cell, String word, int position) {
+        char letter = letters[cell];
+        if (!tiles.isTile(letter)) {
+            return position < word.length() && word.charAt(position) == letter ? 1 : -1;
+        }
+        String tile = tiles.text(letter);
+        return word.startsWith(tile, position) ? tile.length() : -1;
+    }
+    
+    /**
+     * Adds the results of another search to this one.
+     *
+     * @param other the other search
+     */
+    void merge(ClaimSearch other) {
+        claims.putAll(other.claims);
+    }
+    
+    /**
+     * Gets the results of the words checked so far.
+     *
+     * @return the result for each claimed word, keyed by the word as it was claimed
+     */
+    Map<String, Claim> claims() {
+        return claims;
+    }
+}
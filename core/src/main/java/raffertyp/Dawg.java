@@ -0,0 +1,283 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A directed acyclic word graph, which is a trie where identical subtrees are stored once.
+ *
+ * <p>
+ * Words that end the same way share the nodes for their endings, so a DAWG has far fewer nodes
+ * than a trie. Because a node can now be the child of several parents, children can't be found
+ * from a first child index alone. Each node instead has the index of its first edge, and the edges
+ * array holds the target node of each edge in letter order.
+ * </p>
+ *
+ * <p>
+ * A DAWG can be kept in memory or written with {@link #write(Path)} and mapped back with
+ * {@link #map(Path)}. The file starts with a header of six ints: a magic number, the format
+ * version, the node count, the edge count, the word count and the longest word length. After that
+ * come the node masks, the first edge indices and the edge targets.
+ * </p>
+ *
+ * <p>
+ * Node ids are shared between words, so a node id does not identify a single word.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class Dawg implements PrefixIndex {
+    /**
+     * Marks the start of a DAWG file.
+     */
+    static final int MAGIC = 0x42474457;
+    /**
+     * Version of the file format written by this class.
+     */
+    static final int VERSION = 1;
+    /**
+     * How many ints are in the file header.
+     */
+    static final int HEADER_INTS = 6;
+    /**
+     * Child mask and word flag for each node.
+     */
+    private final IntBuffer masks;
+    /**
+     * Index of the first edge of each node.
+     */
+    private final IntBuffer firstEdge;
+    /**
+     * Target node of each edge.
+     */
+    private final IntBuffer targets;
+    /**
+     * How many words are in the graph.
+     */
+    private final int wordCount;
+    /**
+     * Length of the longest word in the graph.
+     */
+    private final int longestWordLength;
+    
+    /**
+     * Creates a DAWG from its arrays.
+     *
+     * @param masks             child mask and word flag for each node
+     * @param firstEdge         index of the first edge of each node
+     * @param targets           target node of each edge
+     * @param wordCount         how many words are in the graph
+     * @param longestWordLength length of the longest word in the graph
+     */
+    private Dawg(IntBuffer masks, IntBuffer firstEdge, IntBuffer targets, int wordCount,
+                 int longestWordLength) {
+        this.masks = masks;
+        this.firstEdge = firstEdge;
+        this.targets = targets;
+        this.wordCount = wordCount;
+        this.longestWordLength = longestWordLength;
+    }
+    
+    /**
+     * Builds a DAWG by merging the identical subtrees of a trie.
+     *
+     * @param trie the trie to minimise
+     * @return the DAWG
+     */
+    public static Dawg of(ArrayTrie trie) {
+        int nodeCount = trie.nodeCount();
+        // Children always come after their parent, so going backwards every child already has
+        // its merged node by the time its parent is looked at
+        int[] merged = new int[nodeCount];
+        Map<Signature, Integer> unique = new HashMap<>();
+        int[] uniqueMasks = new int[nodeCount];
+        int edgeCount = 0;
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            int mask = trie.mask(node);
+            int children = Integer.bitCount(mask & ~ArrayTrie.WORD_BIT);
+            int[] key = new int[children + 1];
+            key[0] = mask;
+            for (int i = 0; i < children; i++) {
+                key[i + 1] = merged[trie.firstChild(node) + i];
+            }
+            Integer existing = unique.putIfAbsent(new Signature(key), unique.size());
+            if (existing == null) {
+                merged[node] = unique.size() - 1;
+                uniqueMasks[merged[node]] = mask;
+                edgeCount += children;
+            } else {
+                merged[node] = existing;
+            }
+        }
+        // The root was merged last, so renumber backwards to make it node 0
+        int uniqueCount = unique.size();
+        int[] masks = new int[uniqueCount];
+        int[] firstEdge = new int[uniqueCount];
+        int[] targets = new int[edgeCount];
+        for (Map.Entry<Signature, Integer> entry : unique.entrySet()) {
+            int id = uniqueCount - 1 - entry.getValue();
+            int[] key = entry.getKey().values;
+            masks[id] = uniqueMasks[entry.getValue()];
+            firstEdge[id] = key.length - 1;
+        }
+        int edge = 0;
+        for (int id = 0; id < uniqueCount; id++) {
+            int children = firstEdge[id];
+            firstEdge[id] = edge;
+            edge += children;
+        }
+        for (Map.Entry<Signature, Integer> entry : unique.entrySet()) {
+            int id = uniqueCount - 1 - entry.getValue();
+            int[] key = entry.getKey().values;
+            for (int i = 1; i < key.length; i++) {
+                targets[firstEdge[id] + i - 1] = uniqueCount - 1 - key[i];
+            }
+        }
+        return new Dawg(IntBuffer.wrap(masks), IntBuffer.wrap(firstEdge), IntBuffer.wrap(targets),
+                trie.wordCount(), trie.longestWordLength());
+    }
+    
+    /**
+     * Maps a DAWG file into memory.
+     *
+     * @param path the path of the DAWG file
+     * @return the DAWG
+     * @throws IOException if there was a problem reading the file or it is not a DAWG
+     */
+    public static Dawg map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_INTS * Integer.BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a DAWG dictionary: " + path);
+            }
+            IntBuffer ints = buffer.asIntBuffer();
+            if (ints.get(1) != VERSION) {
+                throw new IOException(
+                        "Unsupported dictionary version " + ints.get(1) + ": " + path);
+            }
+            int nodeCount = ints.get(2);
+            int edgeCount = ints.get(3);
+            if (buffer.capacity() !=
+                    (HEADER_INTS + 2L * nodeCount + edgeCount) * Integer.BYTES) {
+                throw new IOException("DAWG dictionary is truncated: " + path);
+            }
+            return new Dawg(ints.slice(HEADER_INTS, nodeCount),
+                    ints.slice(HEADER_INTS + nodeCount, nodeCount),
+                    ints.slice(HEADER_INTS + 2 * nodeCount, edgeCount), ints.get(4), ints.get(5));
+        }
+    }
+    
+    /**
+     * Writes this DAWG to a file that can be loaded with {@link #map(Path)}.
+     *
+     * @param path the path of the file to write
+     * @throws IOException if there was a problem writing the file
+     */
+    public void write(Path path) throws IOException {
+        int nodeCount = nodeCount();
+        int edgeCount = edgeCount();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            IntBuffer ints = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (HEADER_INTS + 2L * nodeCount + edgeCount) * Integer.BYTES).asIntBuffer();
+            ints.put(MAGIC).put(VERSION).put(nodeCount).put(edgeCount).put(wordCount)
+                    .put(longestWordLength);
+            ints.put(masks.duplicate().rewind()).put(firstEdge.duplicate().rewind())
+                    .put(targets.duplicate().rewind());
+        }
+    }
+    
+    @Override
+    public int root() {
+        return 0;
+    }
+    
+    @Override
+    public int child(int node, char letter) {
+        int index = letter - 'a';
+        if (index < 0 || index >= ArrayTrie.ALPHABET_SIZE) {
+            return NONE;
+        }
+        int mask = masks.get(node);
+        int bit = 1 << index;
+        if ((mask & bit) == 0) {
+            return NONE;
+        }
+        return targets.get(firstEdge.get(node) + Integer.bitCount(mask & (bit - 1)));
+    }
+    
+    @Override
+    public boolean isWord(int node) {
+        return (masks.get(node) & ArrayTrie.WORD_BIT) != 0;
+    }
+    
+    @Override
+    public int wordCount() {
+        return wordCount;
+    }
+    
+    @Override
+    public int longestWordLength() {
+        return longestWordLength;
+    }
+    
+    /**
+     * Gets how many nodes are in the graph.
+     *
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return masks.capacity();
+    }
+    
+    /**
+     * Gets how many edges are in the graph.
+     *
+     * @return the number of edges
+     */
+    public int edgeCount() {
+        return targets.capacity();
+    }
+    
+    /**
+     * Gets roughly how many bytes of heap the graph's arrays take up. A mapped graph takes up
+     * about this much of the page cache instead.
+     *
+     * @return the size of the arrays in bytes
+     */
+    public long heapBytes() {
+        return (2L * nodeCount() + edgeCount()) * Integer.BYTES;
+    }
+    
+    /**
+     * The mask and merged children of a trie node, used to find identical subtrees.
+     *
+     * @param values the node's mask followed by the merged ids of its children
+     */
+    private record Signature(int[] values) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Signature other && Arrays.equals(values, other.values);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The dice that come with Boggle games. A Q on a die is the Qu tile.
+ *
+ * @author Patrick Rafferty
+ */
+public enum DiceSet {
+    /**
+     * The 16 dice of the original 4x4 game.
+     */
+    CLASSIC("AACIOT", "ABILTY", "ABJMOQ", "ACDEMP", "ACELRS", "ADENVZ", "AHMORS", "BIFORX",
+            "DENOSW", "DKNOTU", "EEFHIY", "EGKLUY", "EGINTV", "EHINPS", "ELPSTU", "GILRUW"),
+    /**
+     * The 16 dice of the 4x4 game sold since 1987.
+     */
+    NEW("AAEEGN", "ABBJOO", "ACHOPS", "AFFKPS", "AOOTTW", "CIMOTU", "DEILRX", "DELRVY",
+            "DISTTY", "EEGHNW", "EEINSU", "EHRTVW", "EIOSST", "ELRTTY", "HIMNQU", "HLNNRZ"),
+    /**
+     * The 25 dice of the 5x5 Big Boggle game.
+     */
+    BIG("AAAFRS", "AAEEEE", "AAFIRS", "ADENNN", "AEEEEM", "AEEGMU", "AEGMNN", "AFIRSY",
+            "BJKQXZ", "CCENST", "CEIILT", "CEILPT", "CEIPST", "DDHNOT", "DHHLOR", "DHLNOR",
+            "DHLNOR", "EIIITT", "EMOTTT", "ENSSSU", "FIPRSY", "GORRVW", "IPRRRY", "NOOTUW",
+            "OOOTTU");
+    
+    /**
+     * The letters on each face of each die, with Q spelled out as qu.
+     */
+    private final String[][] faces;
+    
+    /**
+     * Creates a set of dice.
+     *
+     * @param dice the letters on each die, one letter per face, where Q stands for Qu
+     */
+    DiceSet(String... dice) {
+        faces = Arrays.stream(dice).map(die -> die.toLowerCase(Locale.ROOT).chars()
+                        .mapToObj(face -> face == 'q' ? "qu" : String.valueOf((char) face))
+                        .toArray(String[]::new))
+                .toArray(String[][]::new);
+    }
+    
+    /**
+     * Gets how many dice are in the set.
+     *
+     * @return the number of dice
+     */
+    public int size() {
+        return faces.length;
+    }
+    
+    /**
+     * Gets the letters on each face of a die.
+     *
+     * @param die the index of the die
+     * @return the letters on each face
+     */
+    public List<String> faces(int die) {
+        return List.of(faces[die]);
+    }
+    
+    /**
+     * Gets the letters on a face of a die without copying them.
+     *
+     * @param die  the index of the die
+     * @param face the index of the face
+     * @return the letters on the face
+     */
+    String face(int die, int face) {
+        return faces[die][face];
+    }
+    
+    /**
+     * Gets how many faces a die has.
+     *
+     * @param die the index of the die
+     * @return the number of faces
+     */
+    int faceCount(int die) {
+        return faces[die].length;
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Reads a word list file in parallel, cleaning up the words as it goes.
+ *
+ * <p>
+ * The file is mapped into memory and split into chunks that each start just after a line break,
+ * so no word is split between chunks. Chunks are read in parallel, and each line is trimmed,
+ * lowercased and checked in one pass over its bytes. Lines with anything but letters, like
+ * apostrophes, hyphens or accents, are rejected, since no search could find them. The length and
+ * letter counts are kept while reading. The words are then sorted and duplicates are dropped, so
+ * every index built from them gets a clean sorted list. A file can be at most 2 GB.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class DictionaryLoader {
+    /**
+     * How many bytes each chunk of the file has by default, before moving to a line break.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    /**
+     * How many letters a word can have.
+     */
+    private static final int ALPHABET_SIZE = 26;
+    /**
+     * The UTF-8 byte order mark some editors put at the start of a file.
+     */
+    private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    /**
+     * How many bytes each chunk of the file has, before moving to a line break.
+     */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    /**
+     * If capital letters are lowercased, instead of rejecting the words that have them.
+     */
+    private boolean lowerCase = true;
+    
+    /**
+     * Sets how many bytes of the file each parallel task reads.
+     *
+     * @param chunkSize the size of a chunk in bytes, moved on to the next line break
+     * @throws IllegalArgumentException if the size isn't positive
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * Sets if capital letters are lowercased, on by default. When off, words with capitals are
+     * rejected, the way the tries skip them.
+     *
+     * @param lowerCase true to lowercase words, false to reject words with capitals
+     */
+    public void setLowerCase(boolean lowerCase) {
+        this.lowerCase = lowerCase;
+    }
+    
+    /**
+     * Reads a file with one word per line. A UTF-8 byte order mark at the start is skipped.
+     *
+     * @param path the path of the file with words
+     * @return the words, sorted and without duplicates, and what was read
+     * @throws IOException if there was a problem reading the file
+     */
+    public Result load(Path path) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Word list is bigger than 2 GB: " + path);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int chunks = (int) ((size + chunkSize - 1) / chunkSize);
+            int[] bounds = new int[chunks + 1];
+            if (size >= BYTE_ORDER_MARK.length && buffer.slice(0, BYTE_ORDER_MARK.length)
+                    .equals(ByteBuffer.wrap(BYTE_ORDER_MARK))) {
+                bounds[0] = BYTE_ORDER_MARK.length;
+            }
+            for (int i = 1; i <= chunks; i++) {
+                bounds[i] = lineStart(buffer, (int) Math.min(size, (long) i * chunkSize));
+            }
+            List<Chunk> read = IntStream.range(0, chunks).parallel()
+                    .mapToObj(i -> readChunk(buffer, bounds[i], bounds[i + 1])).toList();
+            return merge(read, size, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+    
+    /**
+     * Helper to find the start of the line holding a position, or of the next line if the
+     * position is partway through a line.
+     *
+     * @param buffer   the file
+     * @param position the position to start from
+     * @return the first position at or after it that starts a line, or the end of the file
+     */
+    private static int lineStart(ByteBuffer buffer, int position) {
+        while (position < buffer.limit() && buffer.get(position - 1) != '\n') {
+            position++;
+        }
+        return position;
+    }
+    
+    /**
+     * Helper to read the words in one chunk of the file.
+     *
+     * @param buffer the file
+     * @param start  where the chunk starts, at the start of a line
+     * @param end    where the chunk ends, at the start of a line or the end of the file
+     * @return the words and counts from the chunk
+     */
+    private Chunk readChunk(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        Chunk chunk = new Chunk();
+        int lineStart = 0;
+        while (lineStart < bytes.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            chunk.add(bytes, lineStart, lineEnd, lowerCase);
+            lineStart = lineEnd + 1;
+        }
+        return chunk;
+    }
+    
+    /**
+     * Helper to combine the chunks into a sorted list without duplicates. The counts of each
+     * duplicate are taken back out as it is dropped.
+     *
+     * @param chunks the chunks, in file order
+     * @param bytes  how big the file is
+     * @param time   how long reading took so far
+     * @return the words and what was read
+     */
+    private static Result merge(List<Chunk> chunks, long bytes, Duration time) {
+        long start = System.nanoTime();
+        String[] sorted = chunks.stream().flatMap(chunk -> chunk.words.stream())
+                .toArray(String[]::new);
+        Arrays.parallelSort(sorted);
+        long[] lengthCounts = new long[chunks.stream().mapToInt(chunk -> chunk.lengthCounts.length)
+                .max().orElse(0)];
+        long[] letterCounts = new long[ALPHABET_SIZE];
+        int lines = 0;
+        int rejected = 0;
+        for (Chunk chunk : chunks) {
+            lines += chunk.lines;
+            rejected += chunk.rejected;
+            for (int i = 0; i < chunk.lengthCounts.length; i++) {
+                lengthCounts[i] += chunk.lengthCounts[i];
+            }
+            for (int i = 0; i < ALPHABET_SIZE; i++) {
+                letterCounts[i] += chunk.letterCounts[i];
+            }
+        }
+        List<String> words = new ArrayList<>(sorted.length);
+        for (String word : sorted) {
+            if (!words.isEmpty() && words.getLast().equals(word)) {
+                lengthCounts[word.length()]--;
+                for (int i = 0; i < word.length(); i++) {
+                    letterCounts[word.charAt(i) - 'a']--;
+                }
+            } else {
+                words.add(word);
+            }
+        }
+        Stats stats = new Stats(bytes, lines, words.size(), rejected,
+                sorted.length - words.size(), lengthCounts, letterCounts,
+                time.plusNanos(System.nanoTime() - start));
+        return new Result(words, stats);
+    }
+    
+    /**
+     * The words read from a file and what was read.
+     *
+     * @param words the words, sorted and without duplicates
+     * @param stats what was read
+     */
+    public record Result(List<String> words, Stats stats) {
+    }
+    
+    /**
+     * What was read from a word list file.
+     *
+     * @param bytes        how big the file is
+     * @param lines        how many lines the file has, not counting blank ones
+     * @param words        how many words were kept
+     * @param rejected     how many lines had something other than letters
+     * @param duplicates   how many words were dropped for being in the file more than once
+     * @param lengthCounts how many kept words have each length, indexed by length
+     * @param letterCounts how many times each letter is used in the kept words, indexed by
+     *                     letter - 'a'
+     * @param time         how long reading took
+     */
+    public record Stats(long bytes, int lines, int words, int rejected, int duplicates,
+                        long[] lengthCounts, long[] letterCounts, Duration time) {
+        /**
+         * Gets the length of the longest kept word.
+         *
+         * @return the longest word length, 0 if no words were kept
+         */
+        public int longestWordLength() {
+            int length = lengthCounts.length - 1;
+            while (length > 0 && lengthCounts[length] == 0) {
+                length--;
+            }
+            return Math.max(length, 0);
+        }
+        
+        /**
+         * Gets how fast the file was read.
+         *
+         * @return the file size in megabytes per second
+         */
+        public double megabytesPerSecond() {
+            return bytes / 1e6 / Math.max(time.toNanos() / 1e9, 1e-9);
+        }
+        
+        /**
+         * Lists how many kept words have each length, one length per line.
+         *
+         * @return the length histogram
+         */
+        public String lengthReport() {
+            StringBuilder report = new StringBuilder();
+            for (int length = 1; length <= longestWordLength(); length++) {
+                report.append(String.format("%2d: %d%n", length, lengthCounts[length]));
+            }
+            return report.toString();
+        }
+        
+        /**
+         * Lists how many times each letter is used in the kept words, one letter per line.
+         *
+         * @return the letter histogram
+         */
+        public String letterReport() {
+            StringBuilder report = new StringBuilder();
+            for (int letter = 0; letter < ALPHABET_SIZE; letter++) {
+                report.append(String.format("%c: %d%n", 'a' + letter, letterCounts[letter]));
+            }
+            return report.toString();
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("Kept %d of %d lines (%d rejected, %d duplicates), longest %d " +
+                            "letters, %.2f MB in %.6f seconds (%.1f MB/s)", words, lines,
+                    rejected, duplicates, longestWordLength(), bytes / 1e6,
+                    time.toNanos() / 1e9, megabytesPerSecond());
+        }
+    }
+    
+    /**
+     * The words and counts read from one chunk of a file.
+     */
+    private static final class Chunk {
+        /**
+         * The words kept, in file order.
+         */
+        private final List<String> words = new ArrayList<>();
+        /**
+         * How many kept words have each length, grown as longer words are found.
+         */
+        private long[] lengthCounts = new long[0];
+        /**
+         * How many times each letter is used in the kept words.
+         */
+        private final long[] letterCounts = new long[ALPHABET_SIZE];
+        /**
+         * The cleaned up letters of the current line.
+         */
+        private byte[] word = new byte[32];
+        /**
+         * How many lines weren't blank.
+         */
+        private int lines;
+        /**
+         * How many lines had something other than letters.
+         */
+        private int rejected;
+        
+        /**
+         * Cleans up one line and keeps it if it is a word.
+         *
+         * @param bytes     the chunk
+         * @param start     where the line starts
+         * @param end       where the line ends, not counting the line break
+         * @param lowerCase true to lowercase capitals, false to reject them
+         */
+        private void add(byte[] bytes, int start, int end, boolean lowerCase) {
+            while (start < end && bytes[start] <= ' ' && bytes[start] >= 0) {
+                start++;
+            }
+            while (end > start && bytes[end - 1] <= ' ' && bytes[end - 1] >= 0) {
+                end--;
+            }
+            if (start == end) {
+                return;
+            }
+            lines++;
+            int length = end - start;
+            if (length > word.length) {
+                word = new byte[Math.max(length, word.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                int letter = bytes[start + i];
+                if (lowerCase && letter >= 'A' && letter <= 'Z') {
+                    letter += 'a' - 'A';
+                }
+                if (letter < 'a' || letter > 'z') {
+                    rejected++;
+                    return;
+                }
+                word[i] = (byte) letter;
+            }
+            if (length >= lengthCounts.length) {
+                lengthCounts = Arrays.copyOf(lengthCounts, Math.max(length + 1,
+                        lengthCounts.length * 2));
+            }
+            lengthCounts[length]++;
+            for (int i = 0; i < length; i++) {
+                letterCounts[word[i] - 'a']++;
+            }
+            words.add(new String(word, 0, length, StandardCharsets.ISO_8859_1));
+        }
+    }
+}
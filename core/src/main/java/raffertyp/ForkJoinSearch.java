@@ -0,0 +1,160 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Searches a grid as a tree of fork/join tasks.
+ *
+ * <p>
+ * Each task owns one starting path. Until the path is as long as the split depth, a task forks a
+ * subtask for every letter that can extend it, so a start cell with a lot of words under it is
+ * broken up and idle threads can steal the pieces. Once a path is long enough the rest of its
+ * subtree is searched with a {@link StackSearch}. Each task returns its own set of words, which
+ * its parent merges, so no set is shared between threads.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+final class ForkJoinSearch extends RecursiveTask<Set<String>> {
+    /**
+     * The dictionary to search with.
+     */
+    private final PrefixIndex index;
+    /**
+     * Letter of each cell, indexed by cell id.
+     */
+    private final char[] letters;
+    /**
+     * The neighbours of each cell.
+     */
+    private final Adjacency adjacency;
+    /**
+     * Path length at which tasks stop splitting.
+     */
+    private final int splitDepth;
+    /**
+     * The ids of the cells in this task's starting path.
+     */
+    private final int[] path;
+    /**
+     * The prefix index node for each step of this task's starting path.
+     */
+    private final int[] pathNodes;
+    
+    /**
+     * Creates a task that searches a whole grid.
+     *
+     * @param index      the dictionary to search with
+     * @param letters    letter of each cell, indexed by cell id
+     * @param adjacency  the neighbours of each cell
+     * @param splitDepth path length at which tasks stop splitting, at least 1
+     */
+    ForkJoinSearch(PrefixIndex index, char[] letters, Adjacency adjacency, int splitDepth) {
+        this(index, letters, adjacency, splitDepth, new int[0], new int[0]);
+    }
+    
+    /**
+     * Creates a task that searches below a starting path.
+     *
+     * @param index      the dictionary to search with
+     * @param letters    letter of each cell, indexed by cell id
+     * @param adjacency  the neighbours of each cell
+     * @param splitDepth path length at which tasks stop splitting
+     * @param path       the ids of the cells in the starting path
+     * @param pathNodes  the prefix index node for each step of the starting path
+     */
+    private ForkJoinSearch(PrefixIndex index, char[] letters, Adjacency adjacency, int splitDepth,
+                           int[] path, int[] pathNodes) {
+        this.index = index;
+        this.letters = letters;
+        this.adjacency = adjacency;
+        this.splitDepth = splitDepth;
+        this.path = path;
+        this.pathNodes = pathNodes;
+    }
+    
+    @Override
+    protected Set<String> compute() {
+        int length = path.length;
+        if (length >= splitDepth) {
+            StackSearch search = new StackSearch(index, letters, adjacency);
+            search.search(path, pathNodes);
+            return search.words();
+        }
+        Set<String> words = new LinkedHashSet<>();
+        List<ForkJoinSearch> subtasks = new ArrayList<>();
+        if (length == 0) {
+            for (int cell = 0; cell < letters.length; cell++) {
+                addSubtask(subtasks, cell, index.root());
+            }
+        } else {
+            int last = path[length - 1];
+            int node = pathNodes[length - 1];
+            if (length >= GameBoard.MIN_WORD_LENGTH && index.isWord(node)) {
+                char[] word = new char[length];
+                for (int i = 0; i < length; i++) {
+                    word[i] = letters[path[i]];
+                }
+                words.add(new String(word));
+            }
+            for (int i = adjacency.start(last); i < adjacency.end(last); i++) {
+                int neighbour = adjacency.neighbour(i);
+                if (!inPath(neighbour)) {
+                    addSubtask(subtasks, neighbour, node);
+                }
+            }
+        }
+        invokeAll(subtasks);
+        for (ForkJoinSearch subtask : subtasks) {
+            words.addAll(subtask.join());
+        }
+        return words;
+    }
+    
+    /**
+     * Adds a subtask for the path extended by a cell, if any word starts with that path.
+     *
+     * @param subtasks the list to add the subtask to
+     * @param cell     the id of the cell to extend the path with
+     * @param node     the prefix index node for this task's path
+     */
+    private void addSubtask(List<ForkJoinSearch> subtasks, int cell, int node) {
+        int child = index.child(node, letters[cell]);
+        if (child == PrefixIndex.NONE) {
+            return;
+        }
+        int[] childPath = Arrays.copyOf(path, path.length + 1);
+        int[] childNodes = Arrays.copyOf(pathNodes, pathNodes.length + 1);
+        childPath[path.length] = cell;
+        childNodes[path.length] = child;
+        subtasks.add(
+                new ForkJoinSearch(index, letters, adjacency, splitDepth, childPath, childNodes));
+    }
+    
+    /**
+     * Checks if a cell is already in this task's path.
+     *
+     * @param cell the id of the cell
+     * @return true if the cell is in the path
+     */
+    private boolean inPath(int cell) {
+        for (int pathCell : path) {
+            if (pathCell == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
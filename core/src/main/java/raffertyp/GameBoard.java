@@ -0,0 +1,1008 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: May 2023
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A game of Boggle.
+ *
+ * @author Patrick Rafferty
+ */
+public class GameBoard {
+    /**
+     * Shortest word length that counts as a found word.
+     */
+    static final int MIN_WORD_LENGTH = 3;
+    /**
+     * Default path length at which fork/join searches stop splitting.
+     */
+    private static final int DEFAULT_SPLIT_DEPTH = 2;
+    /**
+     * Dictionary holding this board's valid words, null if a prefix index is used instead.
+     */
+    private final Collection<String> dictionary;
+    /**
+     * Prefix index holding this board's valid words, null if a collection is used instead.
+     */
+    private PrefixIndex prefixIndex;
+    /**
+     * The grid of cells on this board.
+     */
+    private Cell[][] grid;
+    /**
+     * Letter of each cell, indexed by row * columns + column.
+     */
+    private char[] letters;
+    /**
+     * Length of the longest word in the dictionary.
+     */
+    private int longestWordLength;
+    /**
+     * How many total cells are in the grid.
+     */
+    private int gridArea;
+    /**
+     * Neighbour tables for the loaded grid, built when the grid is loaded or when a rule is first
+     * used on it.
+     */
+    private final Map<NeighbourRule, Adjacency> adjacencies = new ConcurrentHashMap<>();
+    /**
+     * How the grid is searched.
+     */
+    private SearchEngine searchEngine = SearchEngine.BITBOARD;
+    /**
+     * Pool that runs {@link SearchEngine#FORK_JOIN} searches.
+     */
+    private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+    /**
+     * Path length at which {@link SearchEngine#FORK_JOIN} searches stop splitting.
+     */
+    private int splitDepth = DEFAULT_SPLIT_DEPTH;
+    /**
+     * If the dictionary is cut down to the words the grid has enough letters for before searching.
+     */
+    private boolean preFilter;
+    /**
+     * How many of each letter the loaded grid has.
+     */
+    private LetterFilter letterFilter;
+    /**
+     * How much the dictionary was cut down for the loaded grid, null if it hasn't been yet.
+     */
+    private LetterFilter.Stats filterStats;
+    /**
+     * The most of each letter the loaded grid has had since it was loaded, which the search
+     * dictionary was last filtered with, null if it hasn't been filtered yet.
+     */
+    private LetterFilter filteredWith;
+    /**
+     * What was read when the dictionary was loaded from a file, null if it wasn't.
+     */
+    private DictionaryLoader.Stats loadStats;
+    /**
+     * The collection searched, either the dictionary or the part of it the grid can spell.
+     */
+    private Collection<String> searchDictionary;
+    /**
+     * The prefix index searched, either the dictionary or the part of it the grid can spell.
+     */
+    private PrefixIndex searchIndex;
+    /**
+     * The grid that was loaded.
+     */
+    private Grid loadedGrid;
+    /**
+     * Stands for the current contents of a Collection dictionary in result cache keys, replaced
+     * whenever words are added.
+     */
+    private Object dictionaryVersion = new Object();
+    /**
+     * Remembers the words found in recently searched grids, null to always search.
+     */
+    private ResultCache resultCache;
+    /**
+     * Path of each word found by the last resolve, null if the board hasn't been resolved since
+     * the grid or dictionary was loaded.
+     */
+    private Map<String, WordPath> resolvedPaths;
+    /**
+     * Words found by the last resolve whose path goes through each cell, indexed by cell id.
+     */
+    private List<Set<String>> wordsByCell;
+    /**
+     * The rule the last resolve used.
+     */
+    private NeighbourRule resolvedRule;
+    /**
+     * Cells changed by {@link #setCell(int, int, String)} since the last resolve.
+     */
+    private final BitSet changedCells = new BitSet();
+    /**
+     * Automaton for finding words in straight lines, null until it is first needed.
+     */
+    private LineSearch lineSearch;
+    /**
+     * If searches count what they do.
+     */
+    private boolean collectMetrics;
+    /**
+     * What the last counted search did, null if no search has been counted.
+     */
+    private SearchMetrics metrics;
+    
+    /**
+     * Creates a new GameBoard that loads its dictionary into an {@link ArrayTrie}.
+     */
+    public GameBoard() {
+        dictionary = null;
+    }
+    
+    /**
+     * Creates a new GameBoard using an already built prefix index as the dictionary.
+     *
+     * @param prefixIndex the prefix index to use as the dictionary
+     */
+    public GameBoard(PrefixIndex prefixIndex) {
+        dictionary = null;
+        this.prefixIndex = prefixIndex;
+        longestWordLength = prefixIndex.longestWordLength();
+    }
+    
+    /**
+     * Creates a new GameBoard using a provided collection as the dictionary.
+     *
+     * <p>
+     * Searching checks prefixes against the collection itself, which is much slower than a prefix
+     * index. This is kept to compare Collection types.
+     * </p>
+     *
+     * @param emptyDictionary the collection to use as the dictionary
+     */
+    public GameBoard(Collection<String> emptyDictionary) {
+        dictionary = emptyDictionary;
+        searchEngine = SearchEngine.RECURSIVE;
+    }
+    
+    /**
+     * Scores a word by the Boggle rules: 1 point for 3 or 4 letters, 2 for 5, 3 for 6, 5 for 7
+     * and 11 for 8 or more. Shorter words are worth nothing.
+     *
+     * @param word the word to score
+     * @return the points the word is worth
+     */
+    public static int score(CharSequence word) {
+        return score(word.length());
+    }
+    
+    /**
+     * Scores a word by its length, for searches that don't build the word.
+     *
+     * @param length how many letters the word has
+     * @return the points the word is worth
+     */
+    static int score(int length) {
+        return switch (length) {
+            case 0, 1, 2 -> 0;
+            case 3, 4 -> 1;
+            case 5 -> 2;
+            case 6 -> 3;
+            case 7 -> 5;
+            default -> 11;
+        };
+    }
+    
+    /**
+     * Loads a list of words into the dictionary. The file is read in parallel by a
+     * {@link DictionaryLoader}, which lowercases the words and drops any that aren't only letters.
+     *
+     * @param path the path of the file with words
+     * @throws IOException of there was a problem reading the dictionary
+     */
+    public void loadDictionary(Path path) throws IOException {
+        DictionaryLoader.Result loaded = new DictionaryLoader().load(path);
+        loadDictionary(loaded.words());
+        loadStats = loaded.stats();
+    }
+    
+    /**
+     * Loads already read words into the dictionary.
+     *
+     * @param words the words to add
+     */
+    public void loadDictionary(List<String> words) {
+        filterStats = null;
+        loadStats = null;
+        lineSearch = null;
+        resolvedPaths = null;
+        if (dictionary == null) {
+            prefixIndex = ArrayTrie.of(words);
+            longestWordLength = prefixIndex.longestWordLength();
+            return;
+        }
+        dictionaryVersion = new Object();
+        dictionary.addAll(words);
+        dictionary.parallelStream().mapToInt(String::length).max()
+                .ifPresent(max -> longestWordLength = max);
+        if (dictionary instanceof List<String>) {
+            Collections.sort((List<String>) dictionary);
+        }
+    }
+    
+    /**
+     * Loads a generated grid of Boggle from a file.
+     *
+     * @param path the path to load the grid from
+     * @throws IOException if there was a problem reading the file
+     */
+    public void loadGrid(Path path) throws IOException {
+        loadGrid(Grid.load(path));
+    }
+    
+    /**
+     * Loads a grid of Boggle onto this board.
+     *
+     * @param board the grid to search
+     */
+    public void loadGrid(Grid board) {
+        setGrid(board);
+        resolvedPaths = null;
+        changedCells.clear();
+        adjacencies.clear();
+        adjacency(StandardRule.FOUR_WAY);
+        adjacency(StandardRule.EIGHT_WAY);
+    }
+    
+    /**
+     * Changes the letters in one cell of the loaded grid. Neighbour tables are kept, and the next
+     * {@link #resolve(NeighbourRule)} only searches near the cells changed since the last one. A
+     * pre-filtered dictionary is only filtered again if the grid gains a letter beyond what it was
+     * filtered with, or the grid's multi-letter tiles change, and is then filtered with the most
+     * of each letter the grid has had.
+     *
+     * @param row  the row of the cell
+     * @param col  the column of the cell
+     * @param tile the letters for the cell, more than one for a multi-letter tile
+     * @throws IndexOutOfBoundsException if the cell is outside the grid
+     * @throws IllegalArgumentException  if the tile has no letters
+     */
+    public void setCell(int row, int col, String tile) {
+        Grid changed = loadedGrid.withTile(row, col, tile);
+        if (changed == loadedGrid) {
+            return;
+        }
+        if (!changed.tiles().equals(loadedGrid.tiles())) {
+            // Tile codes come from the tile table, so any cell's letter may have changed
+            setGrid(changed);
+        } else {
+            letterFilter.replace(loadedGrid.tile(row, col), changed.tile(row, col));
+            loadedGrid = changed;
+            letters = changed.letters();
+            grid[row][col] = new Cell(row, col, changed.tile(row, col));
+            if (filterStats != null && !filteredWith.covers(letterFilter)) {
+                filterStats = null;
+            }
+        }
+        changedCells.set(row * changed.cols() + col);
+    }
+    
+    /**
+     * Helper to put a grid on the board without forgetting anything that depends only on its
+     * size.
+     *
+     * @param board the grid to search
+     */
+    private void setGrid(Grid board) {
+        loadedGrid = board;
+        grid = new Cell[board.rows()][board.cols()];
+        for (int row = 0; row < board.rows(); row++) {
+            for (int col = 0; col < board.cols(); col++) {
+                grid[row][col] = new Cell(row, col, board.tile(row, col));
+            }
+        }
+        gridArea = board.cellCount();
+        letters = board.letters();
+        letterFilter = LetterFilter.of(board.tiles().isEmpty() ? letters :
+                board.tiles().expand(new String(letters)).toCharArray());
+        filterStats = null;
+        filteredWith = null;
+    }
+    
+    /**
+     * Gets the neighbour table of the loaded grid for a rule, building it the first time.
+     *
+     * @param rule the rule for which cells are neighbours
+     * @return the neighbour table
+     */
+    private Adjacency adjacency(NeighbourRule rule) {
+        return adjacencies.computeIfAbsent(rule,
+                key -> Adjacency.of(grid.length, grid[0].length, key));
+    }
+    
+    /**
+     * Sets how the grid is searched. Boards using a Collection dictionary can only use
+     * {@link SearchEngine#RECURSIVE}.
+     *
+     * @param searchEngine the engine to search with
+     */
+    public void setSearchEngine(SearchEngine searchEngine) {
+        this.searchEngine = searchEngine;
+    }
+    
+    /**
+     * Sets the pool that runs {@link SearchEngine#FORK_JOIN} searches. Use a pool with a set
+     * parallelism to control how many threads a search uses.
+     *
+     * @param forkJoinPool the pool to search in
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+    
+    /**
+     * Sets how many letters of a path {@link SearchEngine#FORK_JOIN} searches split on before
+     * searching the rest of the path in one task. 1 only splits on start cells.
+     *
+     * @param splitDepth the path length to stop splitting at
+     * @throws IllegalArgumentException if the split depth is less than 1
+     */
+    public void setSplitDepth(int splitDepth) {
+        if (splitDepth < 1) {
+            throw new IllegalArgumentException("Split depth must be at least 1: " + splitDepth);
+        }
+        this.splitDepth = splitDepth;
+    }
+    
+    /**
+     * Sets if the dictionary is cut down to the words the grid has enough letters for before
+     * searching. The cut down dictionary is made once per grid, the first time it is searched.
+     * This pays off when the dictionary is much bigger than the set of words a grid could hold.
+     *
+     * @param preFilter true to filter the dictionary for each grid
+     */
+    public void setPreFilter(boolean preFilter) {
+        this.preFilter = preFilter;
+        filterStats = null;
+    }
+    
+    /**
+     * Sets the cache that searches check before searching the grid. A cache can be shared between
+     * boards. Boards with a prefix index share results if they use the same index object. Boards
+     * with a Collection dictionary never share results with other boards, since their entries
+     * are keyed by the dictionary's contents as of the last load into that board.
+     *
+     * @param resultCache the cache to use, or null to always search
+     */
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+    
+    /**
+     * Sets if searches count what they do, such as how many nodes they expand and how long each
+     * start cell takes. Only the {@link SearchEngine#BITBOARD} and {@link SearchEngine#ITERATIVE}
+     * engines and streaming searches count. Searches that don't count skip the counting code.
+     *
+     * @param collectMetrics true to count
+     */
+    public void setMetricsEnabled(boolean collectMetrics) {
+        this.collectMetrics = collectMetrics;
+    }
+    
+    /**
+     * Gets what the last counted search did. Results from the result cache aren't counted.
+     *
+     * @return the metrics, or null if no search has been counted
+     */
+    public SearchMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Makes new metrics for a search if searches are being counted.
+     *
+     * @return the metrics, or null if searches aren't being counted
+     */
+    private SearchMetrics newMetrics() {
+        if (!collectMetrics) {
+            return null;
+        }
+        metrics = new SearchMetrics(gridArea,
+                Math.max(1, Math.min(searchIndex.longestWordLength(), gridArea)));
+        return metrics;
+    }
+    
+    /**
+     * Gets what was read when the dictionary was last loaded from a file.
+     *
+     * @return the words, lines and time taken, or null if the dictionary wasn't loaded from a
+     * file
+     */
+    public DictionaryLoader.Stats getLoadStats() {
+        return loadStats;
+    }
+    
+    /**
+     * Gets how much the dictionary was cut down for the loaded grid.
+     *
+     * @return the filter stats, or null if pre-filtering is off or the grid hasn't been searched
+     */
+    public LetterFilter.Stats getFilterStats() {
+        return preFilter ? filterStats : null;
+    }
+    
+    /**
+     * Picks the dictionary to search, filtering it for the loaded grid if pre-filtering is on and
+     * it hasn't been filtered yet.
+     */
+    private void prepareSearch() {
+        if (!preFilter) {
+            searchIndex = prefixIndex == null ? null :
+                    TileIndex.of(prefixIndex, loadedGrid.tiles());
+            searchDictionary = dictionary;
+            return;
+        }
+        if (filterStats != null) {
+            return;
+        }
+        long start = System.nanoTime();
+        if (filteredWith == null) {
+            filteredWith = letterFilter.copy();
+        } else {
+            filteredWith.include(letterFilter);
+        }
+        int dictionaryWords;
+        int keptWords;
+        if (prefixIndex != null) {
+            searchIndex = TileIndex.of(filteredWith.filter(prefixIndex), loadedGrid.tiles());
+            dictionaryWords = prefixIndex.wordCount();
+            keptWords = searchIndex.wordCount();
+        } else {
+            List<String> kept = filteredWith.filter(dictionary);
+            // Keep the kind of lookup the dictionary uses, lists are already sorted
+            if (dictionary instanceof List<String>) {
+                searchDictionary = new ArrayList<>(kept);
+            } else if (dictionary instanceof NavigableSet<String>) {
+                searchDictionary = new TreeSet<>(kept);
+            } else {
+                searchDictionary = new LinkedHashSet<>(kept);
+            }
+            dictionaryWords = dictionary.size();
+            keptWords = searchDictionary.size();
+        }
+        filterStats = new LetterFilter.Stats(dictionaryWords, keptWords,
+                Duration.ofNanos(System.nanoTime() - start));
+    }
+    
+    /**
+     * Helper to recursively search the board for valid words.
+     *
+     * @param cell        the id of the current cell
+     * @param partialWord the partially constructed word
+     * @param visited     a Set of Cells already visited
+     * @param adjacency   the neighbours of each cell
+     * @return a set of words found in the grid
+     */
+    private Set<String> recursiveSearch(int cell, String partialWord, Set<Cell> visited,
+                                        Adjacency adjacency) {
+        //Check if too long or already seen, return empty set if we are
+        if (partialWord.length() > longestWordLength) {
+            return Collections.emptySet();
+        }
+        Cell currentCell = grid[cell / grid[0].length][cell % grid[0].length];
+        if (visited.contains(currentCell)) {
+            return Collections.emptySet();
+        }
+        Set<String> words = LinkedHashSet.newLinkedHashSet(searchDictionary.size());
+        partialWord += currentCell.tile;
+        if (partialWord.length() >= MIN_WORD_LENGTH) {
+            if (searchDictionary instanceof List<String>) {
+                int index =
+                        Collections.binarySearch((List<String>) searchDictionary, partialWord);
+                if (index > -1) {
+                    words.add(partialWord);
+                } else {
+                    // Words starting with the prefix sort right after where it would go
+                    if (-(index + 1) == searchDictionary.size() ||
+                            !((List<String>) searchDictionary).get(-(index + 1))
+                                    .startsWith(partialWord)) {
+                        return Collections.emptySet();
+                    }
+                }
+            } else {
+                if (searchDictionary.contains(partialWord)) {
+                    words.add(partialWord);
+                } else if (searchDictionary instanceof NavigableSet<String>) {
+                    String higher = ((NavigableSet<String>) searchDictionary).higher(partialWord);
+                    if (higher == null || !higher.startsWith(partialWord)) {
+                        return Collections.emptySet();
+                    }
+                } else {
+                    String finalPartialWord = partialWord;
+                    if (searchDictionary.stream()
+                            .noneMatch(word -> word.startsWith(finalPartialWord))) {
+                        return Collections.emptySet();
+                    }
+                }
+            }
+        }
+        Set<Cell> tempSet = HashSet.newHashSet(gridArea);
+        tempSet.addAll(visited);
+        visited = tempSet;
+        visited.add(currentCell);
+        for (int i = adjacency.start(cell); i < adjacency.end(cell); i++) {
+            words.addAll(recursiveSearch(adjacency.neighbour(i), partialWord, visited, adjacency));
+        }
+        return words;
+    }
+    
+    /**
+     * Helper to recursively search the board for valid words by walking the prefix index.
+     *
+     * @param cell        the id of the current cell
+     * @param node        the prefix index node for the letters before this cell
+     * @param partialWord the partially constructed word, restored before returning
+     * @param visited     which cells are already in the word, restored before returning
+     * @param adjacency   the neighbours of each cell
+     * @param words       where found words are added
+     */
+    private void trieSearch(int cell, int node, StringBuilder partialWord, boolean[] visited,
+                            Adjacency adjacency, Set<String> words) {
+        if (visited[cell]) {
+            return;
+        }
+        char letter = letters[cell];
+        node = searchIndex.child(node, letter);
+        if (node == PrefixIndex.NONE) {
+            return;
+        }
+        partialWord.append(letter);
+        if (partialWord.length() >= MIN_WORD_LENGTH && searchIndex.isWord(node)) {
+            words.add(partialWord.toString());
+        }
+        visited[cell] = true;
+        for (int i = adjacency.start(cell); i < adjacency.end(cell); i++) {
+            trieSearch(adjacency.neighbour(i), node, partialWord, visited, adjacency, words);
+        }
+        visited[cell] = false;
+        partialWord.setLength(partialWord.length() - 1);
+    }
+    
+    /**
+     * Searches the boggle board for all valid words.
+     *
+     * @param isFourWay if only cardinal directions should be checked
+     * @return A set of all the found words
+     */
+    public Set<String> findWords(boolean isFourWay) {
+        return findWords(isFourWay ? StandardRule.FOUR_WAY : StandardRule.EIGHT_WAY);
+    }
+    
+    /**
+     * Searches the boggle board for all valid words.
+     *
+     * @param rule the rule for which cells a word can move between
+     * @return A set of all the found words
+     */
+    public Set<String> findWords(NeighbourRule rule) {
+        if (resultCache != null) {
+            return resultCache.get(loadedGrid, rule,
+                    prefixIndex != null ? prefixIndex : dictionaryVersion, () -> search(rule));
+        }
+        return search(rule);
+    }
+    
+    /**
+     * Searches the boggle board for all valid words without checking the result cache.
+     *
+     * @param rule the rule for which cells a word can move between
+     * @return A set of all the found words
+     */
+    private Set<String> search(NeighbourRule rule) {
+        prepareSearch();
+        Adjacency adjacency = adjacency(rule);
+        if (searchIndex != null) {
+            Set<String> words = switch (searchEngine) {
+                case RECURSIVE -> findTrieWords(adjacency);
+                case BITBOARD -> {
+                    if (!adjacency.hasMasks()) {
+                        yield findStackWords(adjacency);
+                    }
+                    SearchMetrics searchMetrics = newMetrics();
+                    yield IntStream.range(0, gridArea).parallel()
+                            .collect(() -> new BitboardSearch(searchIndex, letters, adjacency,
+                                            searchMetrics),
+                                    BitboardSearch::search, BitboardSearch::merge).words();
+                }
+                case ITERATIVE -> findStackWords(adjacency);
+                case FORK_JOIN -> forkJoinPool.invoke(
+                        new ForkJoinSearch(searchIndex, letters, adjacency, splitDepth));
+            };
+            return searchIndex instanceof TileIndex tileIndex ?
+                    tileIndex.expand(words, letters, adjacency) : words;
+        }
+        if (searchEngine != SearchEngine.RECURSIVE) {
+            throw new IllegalStateException(searchEngine + " search needs a prefix index");
+        }
+        Set<String> words = Collections.synchronizedSet(
+                LinkedHashSet.newLinkedHashSet(searchDictionary.size()));
+        IntStream.range(0, gridArea).parallel().forEach(startCell -> words.addAll(
+                recursiveSearch(startCell, "", HashSet.newHashSet(gridArea), adjacency)));
+        return words;
+    }
+    
+    /**
+     * Searches the boggle board, reporting each word as soon as it is found rather than once the
+     * search is done. Returns once the search finishes or the control stops it.
+     *
+     * @param rule     the rule for which cells a word can move between
+     * @param listener told about each word found, possibly from several threads at once
+     * @param control  cancels the search or limits how long it runs and how many words it reports
+     * @throws IllegalStateException if the dictionary isn't a prefix index
+     */
+    public void findWords(NeighbourRule rule, WordListener listener, SearchControl control) {
+        if (prefixIndex == null) {
+            throw new IllegalStateException("Streaming search needs a prefix index");
+        }
+        prepareSearch();
+        Adjacency adjacency = adjacency(rule);
+        Set<String> reported = ConcurrentHashMap.newKeySet();
+        // Words are counted once the spelled out word is known to be new, as different tile
+        // words can spell out the same word
+        WordListener target = control.counting(listener);
+        if (searchIndex instanceof TileIndex tileIndex) {
+            target = tileIndex.expanding(target, ConcurrentHashMap.newKeySet());
+        }
+        WordListener searchListener = target;
+        SearchMetrics searchMetrics = newMetrics();
+        IntStream.range(0, gridArea).parallel()
+                .collect(() -> new StackSearch(searchIndex, letters, adjacency, reported,
+                                searchListener, control, searchMetrics),
+                        StackSearch::search, (first, second) -> { });
+        if (searchIndex instanceof TileIndex tileIndex) {
+            tileIndex.shortWords(letters, adjacency, (word, path) -> {
+                if (!control.isStopped()) {
+                    searchListener.wordFound(word, path);
+                }
+            });
+        }
+    }
+    
+    /**
+     * Searches the boggle board for all valid words along with a path that spells each one. The
+     * path kept for a word is the first one found from the lowest numbered start cell, so the
+     * same board always gives the same paths. Searches that only need the words should use
+     * {@link #findWords(NeighbourRule)}, which never builds paths.
+     *
+     * @param rule the rule for which cells a word can move between
+     * @return the path for each found word, keyed by word
+     * @throws IllegalStateException if the dictionary isn't a prefix index
+     */
+    public Map<String, WordPath> findPaths(NeighbourRule rule) {
+        if (prefixIndex == null) {
+            throw new IllegalStateException("Finding paths needs a prefix index");
+        }
+        prepareSearch();
+        Adjacency adjacency = adjacency(rule);
+        SearchMetrics searchMetrics = newMetrics();
+        Map<String, WordPath> paths = IntStream.range(0, gridArea).parallel()
+                .collect(() -> StackSearch.withPaths(searchIndex, letters, adjacency,
+                                searchMetrics),
+                        StackSearch::search, StackSearch::merge).paths();
+        if (!(searchIndex instanceof TileIndex tileIndex)) {
+            return paths;
+        }
+        TileTable tiles = loadedGrid.tiles();
+        Map<String, WordPath> expanded = new LinkedHashMap<>();
+        paths.forEach((word, path) -> expanded.putIfAbsent(tiles.expand(word),
+                WordPath.of(tiles.expand(word), path.cells())));
+        tileIndex.shortWords(letters, adjacency,
+                (word, path) -> expanded.putIfAbsent(word, WordPath.of(word, path)));
+        return expanded;
+    }
+    
+    /**
+     * Finds the words on the board and how they changed since the last resolve. The first resolve
+     * after a grid or dictionary is loaded, or after the rule changes, searches the whole board.
+     * After that, cells changed with {@link #setCell(int, int, String)} are searched
+     * incrementally.
+     *
+     * <p>
+     * A new word must have a path through a changed cell, so only paths starting within the
+     * longest word's length of a changed cell are searched. A word whose last known path went
+     * through a changed cell may still be spelled by another path, so each of those that the
+     * search didn't find again is checked with {@link #validate(NeighbourRule, Collection)}
+     * before it is removed. Words whose path doesn't touch a changed cell are kept without being
+     * searched for. Boards with multi-letter tiles are always searched whole.
+     * </p>
+     *
+     * @param rule the rule for which cells a word can move between
+     * @return the words added and removed since the last resolve
+     * @throws IllegalStateException if the dictionary isn't a prefix index
+     */
+    public WordDelta resolve(NeighbourRule rule) {
+        if (prefixIndex == null) {
+            throw new IllegalStateException("Resolving needs a prefix index");
+        }
+        if (resolvedPaths == null || !rule.equals(resolvedRule) ||
+                !loadedGrid.tiles().isEmpty()) {
+            Map<String, WordPath> previous = resolvedPaths == null ? Map.of() : resolvedPaths;
+            Map<String, WordPath> paths = findPaths(rule);
+            Map<String, WordPath> added = new LinkedHashMap<>(paths);
+            added.keySet().removeAll(previous.keySet());
+            Set<String> removed = new LinkedHashSet<>(previous.keySet());
+            removed.removeAll(paths.keySet());
+            Map<String, WordPath> moved = new LinkedHashMap<>();
+            previous.forEach((word, path) -> {
+                WordPath newPath = paths.get(word);
+                if (newPath != null && !newPath.equals(path)) {
+                    moved.put(word, newPath);
+                }
+            });
+            boolean full = resolvedPaths == null;
+            resolvedPaths = new LinkedHashMap<>();
+            wordsByCell = new ArrayList<>(gridArea);
+            for (int cell = 0; cell < gridArea; cell++) {
+                wordsByCell.add(new HashSet<>());
+            }
+            paths.values().forEach(this::addResolved);
+            resolvedRule = rule;
+            changedCells.clear();
+            return new WordDelta(added, removed, moved, full);
+        }
+        if (changedCells.isEmpty()) {
+            return new WordDelta(Map.of(), Set.of(), Map.of(), false);
+        }
+        prepareSearch();
+        Adjacency adjacency = adjacency(rule);
+        SearchMetrics searchMetrics = newMetrics();
+        Map<String, WordPath> found = IntStream.of(cellsNear(adjacency, longestWordLength - 1))
+                .parallel()
+                .collect(() -> StackSearch.withPaths(searchIndex, letters, adjacency,
+                                searchMetrics),
+                        StackSearch::search, StackSearch::merge).paths();
+        Set<String> touched = new LinkedHashSet<>();
+        changedCells.stream().forEach(cell -> touched.addAll(wordsByCell.get(cell)));
+        Map<String, WordPath> moved = new LinkedHashMap<>();
+        List<String> lost = new ArrayList<>();
+        for (String word : touched) {
+            WordPath path = found.get(word);
+            if (path == null) {
+                lost.add(word);
+            } else if (!path.equals(resolvedPaths.get(word))) {
+                moved.put(word, path);
+            }
+        }
+        validate(rule, lost).forEach((word, claim) -> {
+            if (claim.isValid()) {
+                moved.put(word, claim.path());
+            }
+        });
+        Set<String> removed = new LinkedHashSet<>(lost);
+        removed.removeAll(moved.keySet());
+        Map<String, WordPath> added = new LinkedHashMap<>(found);
+        added.keySet().removeAll(resolvedPaths.keySet());
+        for (String word : removed) {
+            removeResolved(word);
+        }
+        for (WordPath path : moved.values()) {
+            removeResolved(path.word());
+            addResolved(path);
+        }
+        added.values().forEach(this::addResolved);
+        changedCells.clear();
+        return new WordDelta(added, removed, moved, false);
+    }
+    
+    /**
+     * Helper to find the cells a path of some number of steps can start from and still reach a
+     * changed cell. Rules don't have to be mutual, so this walks the neighbour table backwards.
+     *
+     * @param adjacency the neighbours of each cell
+     * @param steps     how many steps a path can take
+     * @return the ids of the cells that can reach a changed cell, including the changed cells
+     */
+    private int[] cellsNear(Adjacency adjacency, int steps) {
+        int cellCount = adjacency.cellCount();
+        // Cells each cell is a neighbour of, in the same layout as the neighbour table
+        int[] incomingStart = new int[cellCount + 1];
+        for (int cell = 0; cell < cellCount; cell++) {
+            for (int i = adjacency.start(cell); i < adjacency.end(cell); i++) {
+                incomingStart[adjacency.neighbour(i) + 1]++;
+            }
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            incomingStart[cell + 1] += incomingStart[cell];
+        }
+        int[] incoming = new int[incomingStart[cellCount]];
+        int[] filled = Arrays.copyOf(incomingStart, cellCount);
+        for (int cell = 0; cell < cellCount; cell++) {
+            for (int i = adjacency.start(cell); i < adjacency.end(cell); i++) {
+                incoming[filled[adjacency.neighbour(i)]++] = cell;
+            }
+        }
+        BitSet reached = (BitSet) changedCells.clone();
+        int[] frontier = changedCells.stream().toArray();
+        for (int step = 0; step < steps && frontier.length > 0; step++) {
+            IntStream.Builder next = IntStream.builder();
+            for (int cell : frontier) {
+                for (int i = incomingStart[cell]; i < incomingStart[cell + 1]; i++) {
+                    int previous = incoming[i];
+                    if (!reached.get(previous)) {
+                        reached.set(previous);
+                        next.add(previous);
+                    }
+                }
+            }
+            frontier = next.build().toArray();
+        }
+        return reached.stream().toArray();
+    }
+    
+    /**
+     * Helper to remember a word found by a resolve.
+     *
+     * @param path the word and the path that spells it
+     */
+    private void addResolved(WordPath path) {
+        resolvedPaths.put(path.word(), path);
+        for (int cell : path.cells()) {
+            wordsByCell.get(cell).add(path.word());
+        }
+    }
+    
+    /**
+     * Helper to forget a word found by an earlier resolve.
+     *
+     * @param word the word
+     */
+    private void removeResolved(String word) {
+        WordPath path = resolvedPaths.remove(word);
+        for (int cell : path.cells()) {
+            wordsByCell.get(cell).remove(word);
+        }
+    }
+    
+    /**
+     * Finds every word written in a straight line on the board, reading across, down or
+     * diagonally in either direction, like a classic word search puzzle. Unlike
+     * {@link #findWords(NeighbourRule)} a word can't turn, so lines are scanned with a
+     * {@link LineSearch} instead of searching paths. The search is built from the dictionary the
+     * first time lines are found and kept until the dictionary changes.
+     *
+     * @return every place a word was found, with the cell it starts in and the way it reads
+     */
+    public List<LineMatch> findLines() {
+        if (lineSearch == null) {
+            lineSearch = prefixIndex != null ? LineSearch.of(prefixIndex) :
+                    LineSearch.of(dictionary);
+        }
+        return lineSearch.find(loadedGrid);
+    }
+    
+    /**
+     * Checks words a player claims to have found with the standard eight way rule.
+     *
+     * @param claims the claimed words
+     * @return the result for each claimed word, keyed by the word as it was claimed
+     * @see #validate(NeighbourRule, Collection)
+     */
+    public Map<String, Claim> validate(Collection<String> claims) {
+        return validate(StandardRule.EIGHT_WAY, claims);
+    }
+    
+    /**
+     * Checks words a player claims to have found. Each word is looked up in the dictionary and
+     * then searched for along its own letters only, which is much cheaper than finding every word
+     * and comparing. Claims are checked in parallel, case doesn't matter and a word claimed twice
+     * is only checked once. If it was claimed again in a different case, the later claims are
+     * {@link Claim.Status#DUPLICATE} and score nothing.
+     *
+     * @param rule   the rule for which cells a word can move between
+     * @param claims the claimed words
+     * @return the result for each claimed word, in the order they were claimed, keyed by the word
+     * as it was claimed
+     */
+    public Map<String, Claim> validate(NeighbourRule rule, Collection<String> claims) {
+        Adjacency adjacency = adjacency(rule);
+        TileTable tiles = loadedGrid.tiles();
+        Map<Character, int[]> cellsByLetter = IntStream.range(0, gridArea).boxed()
+                .collect(Collectors.groupingBy(cell -> tiles.text(letters[cell]).charAt(0),
+                        Collectors.collectingAndThen(Collectors.toList(),
+                                cells -> cells.stream().mapToInt(Integer::intValue).toArray())));
+        Predicate<String> inDictionary = prefixIndex != null ? prefixIndex::contains :
+                dictionary::contains;
+        // The first claim of each word as it was claimed, keyed by the word in lowercase
+        Map<String, String> firstClaims = new LinkedHashMap<>();
+        for (String claim : claims) {
+            firstClaims.putIfAbsent(claim.toLowerCase(Locale.ROOT), claim);
+        }
+        Map<String, Claim> checked = List.copyOf(firstClaims.values()).parallelStream()
+                .collect(() -> new ClaimSearch(letters, tiles, adjacency, cellsByLetter,
+                                inDictionary, letterFilter),
+                        ClaimSearch::check, ClaimSearch::merge).claims();
+        Map<String, Claim> results = new LinkedHashMap<>();
+        for (String claim : claims) {
+            results.computeIfAbsent(claim, word -> checked.getOrDefault(word,
+                    new Claim(word, Claim.Status.DUPLICATE, 0, null)));
+        }
+        return results;
+    }
+    
+    /**
+     * Searches the boggle board for all valid words with an iterative search on each start cell.
+     *
+     * @param adjacency the neighbours of each cell
+     * @return A set of all the found words
+     */
+    private Set<String> findStackWords(Adjacency adjacency) {
+        SearchMetrics searchMetrics = newMetrics();
+        return IntStream.range(0, gridArea).parallel()
+                .collect(() -> new StackSearch(searchIndex, letters, adjacency, searchMetrics),
+                        StackSearch::search, StackSearch::merge).words();
+    }
+    
+    /**
+     * Searches the boggle board for all valid words using the prefix index.
+     *
+     * @param adjacency the neighbours of each cell
+     * @return A set of all the found words
+     */
+    private Set<String> findTrieWords(Adjacency adjacency) {
+        Set<String> words = Collections.synchronizedSet(new LinkedHashSet<>());
+        IntStream.range(0, gridArea).parallel().forEach(startCell -> {
+            Set<String> found = new LinkedHashSet<>();
+            trieSearch(startCell, searchIndex.root(), new StringBuilder(longestWordLength),
+                    new boolean[gridArea], adjacency, found);
+            words.addAll(found);
+        });
+        return words;
+    }
+    
+    @Override
+    public String toString() {
+        return Arrays.deepToString(grid);
+    }
+    
+    /**
+     * A cell to go inside the Boggle grid.
+     *
+     * @param row    the row this cell is in
+     * @param col    the column this cell is in
+     * @param tile   the letters this cell holds, more than one for a multi-letter tile
+     */
+    record Cell(int row, int col, String tile) {
+        // Record implements hashCode and equals
+        // Record also deals with making getters
+        
+        @Override
+        public String toString() {
+            return tile;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,339 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The letters of a Boggle board. A Grid never changes once it is made, so it can be shared
+ * between threads.
+ *
+ * <p>
+ * Cells are identified by row * cols + col.
+ * </p>
+ *
+ * <p>
+ * A cell can hold a tile of more than one letter, like the Qu die in Boggle. Grid files write
+ * these in brackets, so {@code [qu]} is one cell. Each tile is kept as a single code from the
+ * grid's {@link TileTable}, which {@link #letter(int, int)} returns, and {@link #tile(int, int)}
+ * spells out.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class Grid {
+    /**
+     * How many rows are in the grid.
+     */
+    private final int rows;
+    /**
+     * How many columns are in the grid.
+     */
+    private final int cols;
+    /**
+     * Letter of each cell, indexed by cell id.
+     */
+    private final char[] letters;
+    /**
+     * The multi-letter tiles in the grid.
+     */
+    private final TileTable tiles;
+    
+    /**
+     * Creates a grid that takes ownership of a letter array.
+     *
+     * @param rows    how many rows are in the grid
+     * @param cols    how many columns are in the grid
+     * @param letters letter of each cell, indexed by cell id
+     * @param tiles   the multi-letter tiles in the grid
+     */
+    private Grid(int rows, int cols, char[] letters, TileTable tiles) {
+        this.rows = rows;
+        this.cols = cols;
+        this.letters = letters;
+        this.tiles = tiles;
+    }
+    
+    /**
+     * Creates a grid from lines of letters, one line per row. Letters are lowercased, and letters
+     * in brackets are one multi-letter tile, like {@code [qu]}.
+     *
+     * @param lines the rows of the grid
+     * @return the grid
+     * @throws IllegalArgumentException if there are no rows, the rows are not all the same length
+     *                                  or a bracket isn't closed
+     */
+    public static Grid of(List<String> lines) {
+        if (lines.isEmpty() || lines.get(0).isEmpty()) {
+            throw new IllegalArgumentException("Grid has no cells");
+        }
+        List<String> cells = new ArrayList<>();
+        int cols = 0;
+        for (int row = 0; row < lines.size(); row++) {
+            String line = lines.get(row);
+            int rowStart = cells.size();
+            for (int i = 0; i < line.length(); i++) {
+                if (line.charAt(i) != '[') {
+                    cells.add(line.substring(i, i + 1));
+                    continue;
+                }
+                int close = line.indexOf(']', i);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Grid row " + row + " has an unclosed [");
+                }
+                cells.add(line.substring(i + 1, close));
+                i = close;
+            }
+            if (row == 0) {
+                cols = cells.size();
+            } else if (cells.size() - rowStart != cols) {
+                throw new IllegalArgumentException("Grid row " + row + " is not " + cols + " long");
+            }
+        }
+        return ofTiles(lines.size(), cols, cells);
+    }
+    
+    /**
+     * Creates a grid from the letters on each cell's tile. Letters are lowercased.
+     *
+     * @param rows  how many rows are in the grid
+     * @param cols  how many columns are in the grid
+     * @param cells the letters on each cell, indexed by cell id
+     * @return the grid
+     * @throws IllegalArgumentException if the list is not rows * cols long, or a cell has no
+     *                                  letters or a letter from the private use area
+     */
+    public static Grid ofTiles(int rows, int cols, List<String> cells) {
+        if (rows <= 0 || cols <= 0 || cells.size() != rows * cols) {
+            throw new IllegalArgumentException(
+                    "Grid of " + rows + "x" + cols + " can't hold " + cells.size() + " cells");
+        }
+        TileTable tiles = TileTable.of(cells.stream().filter(cell -> cell.length() > 1).toList());
+        char[] letters = new char[cells.size()];
+        for (int cell = 0; cell < letters.length; cell++) {
+            String tile = cells.get(cell);
+            if (tile.isEmpty()) {
+                throw new IllegalArgumentException("Cell " + cell + " has no letters");
+            }
+            if (tile.length() > 1) {
+                letters[cell] = tiles.code(tile);
+            } else if (tile.charAt(0) >= TileTable.FIRST_CODE) {
+                throw new IllegalArgumentException("Cell " + cell + " holds a tile code");
+            } else {
+                letters[cell] = Character.toLowerCase(tile.charAt(0));
+            }
+        }
+        return new Grid(rows, cols, letters, tiles);
+    }
+    
+    /**
+     * Creates a grid from a copy of a letter array.
+     *
+     * @param rows    how many rows are in the grid
+     * @param cols    how many columns are in the grid
+     * @param letters letter of each cell, indexed by cell id
+     * @return the grid
+     * @throws IllegalArgumentException if the array is not rows * cols long
+     */
+    public static Grid of(int rows, int cols, char[] letters) {
+        if (rows <= 0 || cols <= 0 || letters.length != rows * cols) {
+            throw new IllegalArgumentException(
+                    "Grid of " + rows + "x" + cols + " can't hold " + letters.length + " letters");
+        }
+        return new Grid(rows, cols, letters.clone(), TileTable.EMPTY);
+    }
+    
+    /**
+     * Loads a grid from a file with one line per row.
+     *
+     * @param path the path to load the grid from
+     * @return the grid
+     * @throws IOException if there was a problem reading the file
+     */
+    public static Grid load(Path path) throws IOException {
+        return of(Files.readAllLines(path));
+    }
+    
+    /**
+     * Gets how many rows are in the grid.
+     *
+     * @return the number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+    
+    /**
+     * Gets how many columns are in the grid.
+     *
+     * @return the number of columns
+     */
+    public int cols() {
+        return cols;
+    }
+    
+    /**
+     * Gets how many cells are in the grid.
+     *
+     * @return the number of cells
+     */
+    public int cellCount() {
+        return letters.length;
+    }
+    
+    /**
+     * Gets the letter in a cell.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the letter in the cell
+     */
+    public char letter(int row, int col) {
+        return letters[row * cols + col];
+    }
+    
+    /**
+     * Gets the letters in a cell, spelling out multi-letter tiles.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the letters in the cell
+     */
+    public String tile(int row, int col) {
+        return tiles.text(letter(row, col));
+    }
+    
+    /**
+     * Makes a copy of this grid with one cell changed. Grids can't be changed, so this is how a
+     * board is edited.
+     *
+     * @param row  the row of the cell
+     * @param col  the column of the cell
+     * @param tile the letters for the cell, more than one for a multi-letter tile
+     * @return the changed grid, or this grid if the cell already holds the tile
+     * @throws IndexOutOfBoundsException if the cell is outside the grid
+     * @throws IllegalArgumentException  if the tile has no letters
+     */
+    public Grid withTile(int row, int col, String tile) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("(" + row + ", " + col + ") is outside a " +
+                    rows + "x" + cols + " grid");
+        }
+        String lower = tile.toLowerCase(Locale.ROOT);
+        if (lower.equals(tile(row, col))) {
+            return this;
+        }
+        if (lower.length() == 1 && lower.charAt(0) < TileTable.FIRST_CODE && tiles.isEmpty()) {
+            char[] changed = letters.clone();
+            changed[row * cols + col] = lower.charAt(0);
+            return of(rows, cols, changed);
+        }
+        List<String> cells = new ArrayList<>(letters.length);
+        for (char letter : letters) {
+            cells.add(tiles.text(letter));
+        }
+        cells.set(row * cols + col, lower);
+        return ofTiles(rows, cols, cells);
+    }
+    
+    /**
+     * Gets the multi-letter tiles in this grid.
+     *
+     * @return the tile table, empty if every cell holds one letter
+     */
+    public TileTable tiles() {
+        return tiles;
+    }
+    
+    /**
+     * Gets the first of this grid's rotations and reflections, comparing their letters in cell id
+     * order. Square grids have 8 of these, other grids keep their shape so only have 4. Grids that
+     * are rotations or reflections of each other have the same canonical grid.
+     *
+     * @return the canonical grid, which may be this grid
+     */
+    public Grid canonical() {
+        Grid best = this;
+        char[] candidate = new char[letters.length];
+        // Bit 0 flips the rows, bit 1 flips the columns and bit 2 swaps rows with columns
+        int symmetries = rows == cols ? 8 : 4;
+        for (int symmetry = 1; symmetry < symmetries; symmetry++) {
+            boolean transpose = (symmetry & 4) != 0;
+            int outCols = transpose ? rows : cols;
+            for (int cell = 0; cell < candidate.length; cell++) {
+                int row = cell / outCols;
+                int col = cell % outCols;
+                int fromRow = transpose ? col : row;
+                int fromCol = transpose ? row : col;
+                if ((symmetry & 1) != 0) {
+                    fromRow = rows - 1 - fromRow;
+                }
+                if ((symmetry & 2) != 0) {
+                    fromCol = cols - 1 - fromCol;
+                }
+                candidate[cell] = letters[fromRow * cols + fromCol];
+            }
+            if (Arrays.compare(candidate, best.letters) < 0) {
+                best = new Grid(rows, cols, candidate.clone(), tiles);
+            }
+        }
+        return best;
+    }
+    
+    /**
+     * Gets the letters of every cell without copying them. Callers must not change the array.
+     *
+     * @return letter of each cell, indexed by cell id
+     */
+    char[] letters() {
+        return letters;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Grid other && rows == other.rows && cols == other.cols &&
+                Arrays.equals(letters, other.letters) && tiles.equals(other.tiles);
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * cols + Arrays.hashCode(letters);
+    }
+    
+    /**
+     * Writes the grid one row per line, the same way grid files are read, with multi-letter tiles
+     * in brackets.
+     *
+     * @return the grid as text
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(letters.length + rows);
+        for (int row = 0; row < rows; row++) {
+            if (tiles.isEmpty()) {
+                builder.append(letters, row * cols, cols);
+            } else {
+                for (int cell = row * cols; cell < (row + 1) * cols; cell++) {
+                    if (tiles.isTile(letters[cell])) {
+                        builder.append('[').append(tiles.text(letters[cell])).append(']');
+                    } else {
+                        builder.append(letters[cell]);
+                    }
+                }
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A grid too big to hold as a {@link Grid}, stored as one byte per cell.
+ *
+ * <p>
+ * The bytes are either an array or a grid file mapped into memory, so a mapped grid takes no heap
+ * however big it is, and the operating system only reads the parts that are searched. A grid
+ * file has one row of letters per line, every line the same length, with either Unix or Windows
+ * line endings. Cells are single ASCII letters, so tiles like {@code [Qu]} aren't supported, and
+ * a mapped file can be at most 2 GB. Letters are lowercased when they are read.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class LargeGrid {
+    /**
+     * The cells, row by row, with {@link #stride} bytes from the start of one row to the next.
+     */
+    private final ByteBuffer cells;
+    /**
+     * How many rows are in the grid.
+     */
+    private final int rows;
+    /**
+     * How many columns are in the grid.
+     */
+    private final int cols;
+    /**
+     * How many bytes are from the start of one row to the next.
+     */
+    private final int stride;
+    
+    /**
+     * Creates a grid over its cells.
+     *
+     * @param cells  the cells, row by row
+     * @param rows   how many rows are in the grid
+     * @param cols   how many columns are in the grid
+     * @param stride how many bytes are from the start of one row to the next
+     */
+    private LargeGrid(ByteBuffer cells, int rows, int cols, int stride) {
+        this.cells = cells;
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = stride;
+    }
+    
+    /**
+     * Creates a grid from an array of letters, which is used without copying.
+     *
+     * @param rows    how many rows are in the grid
+     * @param cols    how many columns are in the grid
+     * @param letters ASCII letter of each cell, indexed by row * cols + col
+     * @return the grid
+     * @throws IllegalArgumentException if the array is not rows * cols long
+     */
+    public static LargeGrid of(int rows, int cols, byte[] letters) {
+        if (rows <= 0 || cols <= 0 || letters.length != (long) rows * cols) {
+            throw new IllegalArgumentException(
+                    "Grid of " + rows + "x" + cols + " can't hold " + letters.length + " letters");
+        }
+        return new LargeGrid(ByteBuffer.wrap(letters), rows, cols, cols);
+    }
+    
+    /**
+     * Maps a grid file into memory.
+     *
+     * @param path the path of the grid file
+     * @return the grid
+     * @throws IOException if there was a problem reading the file or its rows aren't all the
+     *                     same length
+     */
+    public static LargeGrid map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int size = buffer.capacity();
+            int cols = 0;
+            while (cols < size && buffer.get(cols) != '\n') {
+                cols++;
+            }
+            int lineEnd = cols < size ? 1 : 0;
+            if (cols > 0 && buffer.get(cols - 1) == '\r') {
+                cols--;
+                lineEnd++;
+            }
+            int stride = cols + lineEnd;
+            if (cols == 0) {
+                throw new IOException("Grid file has an empty first row: " + path);
+            }
+            // The last row may or may not end with a line ending
+            int rows = (size + stride - 1) / stride;
+            if (size != (long) rows * stride && size != (long) rows * stride - lineEnd) {
+                throw new IOException("Grid rows are not all " + cols + " letters long: " + path);
+            }
+            for (int row = 0; row < rows - 1; row++) {
+                if (buffer.get(row * stride + stride - 1) != '\n') {
+                    throw new IOException("Row " + row + " is not " + cols + " letters long: " +
+                            path);
+                }
+            }
+            return new LargeGrid(buffer, rows, cols, stride);
+        }
+    }
+    
+    /**
+     * Gets how many rows are in the grid.
+     *
+     * @return the number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+    
+    /**
+     * Gets how many columns are in the grid.
+     *
+     * @return the number of columns
+     */
+    public int cols() {
+        return cols;
+    }
+    
+    /**
+     * Gets how many cells are in the grid.
+     *
+     * @return the number of cells
+     */
+    public long cellCount() {
+        return (long) rows * cols;
+    }
+    
+    /**
+     * Gets the letter in a cell.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the lowercase letter
+     * @throws IndexOutOfBoundsException if the cell is outside the grid
+     */
+    public char letter(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("(" + row + ", " + col + ") is outside a " +
+                    rows + "x" + cols + " grid");
+        }
+        return Character.toLowerCase((char) (cells.get(row * stride + col) & 0xFF));
+    }
+    
+    /**
+     * Copies a rectangle of letters out of the grid.
+     *
+     * @param top     the first row to copy
+     * @param left    the first column to copy
+     * @param letters where to copy the letters to, row by row
+     * @param width   how many columns to copy from each row
+     */
+    void copy(int top, int left, char[] letters, int width) {
+        int height = letters.length / width;
+        for (int row = 0; row < height; row++) {
+            int from = (top + row) * stride + left;
+            for (int col = 0; col < width; col++) {
+                letters[row * width + col] =
+                        Character.toLowerCase((char) (cells.get(from + col) & 0xFF));
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * How many of each letter a grid has, used to throw out dictionary words the grid can't spell.
+ *
+ * <p>
+ * A word can only be found if the grid has at least as many copies of each of its letters as the
+ * word uses, since a path can't use a cell twice. Most of a large dictionary fails this on a small
+ * grid, so searching a dictionary cut down to the words that pass is much cheaper. Prefix indexes
+ * are cut down by walking them with the letters still left over, so words that can't pass are
+ * never visited.
+ * </p>
+ *
+ * <p>
+ * Changing a cell updates the counts in place. A dictionary filtered before the change only needs
+ * filtering again if the grid gained a letter beyond what it was filtered with, see
+ * {@link #covers(LetterFilter)}. Losing a letter leaves words the grid can no longer spell,
+ * which a search never finds anyway. Filtering again with the most of each letter the grid has
+ * had, see {@link #include(LetterFilter)}, means trying different letters in a cell soon stops
+ * needing any filtering at all.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class LetterFilter {
+    /**
+     * The lowest letter the counts cover.
+     */
+    private char firstLetter;
+    /**
+     * How many of each letter the grid has, indexed by letter - firstLetter.
+     */
+    private int[] counts;
+    
+    /**
+     * Creates a filter from letter counts.
+     *
+     * @param firstLetter the lowest letter in the grid
+     * @param counts      how many of each letter the grid has, indexed by letter - firstLetter
+     */
+    private LetterFilter(char firstLetter, int[] counts) {
+        this.firstLetter = firstLetter;
+        this.counts = counts;
+    }
+    
+    /**
+     * Counts the letters of a grid.
+     *
+     * @param letters the letter of each cell
+     * @return the filter for the grid
+     */
+    public static LetterFilter of(char[] letters) {
+        char first = Character.MAX_VALUE;
+        char last = Character.MIN_VALUE;
+        for (char letter : letters) {
+            first = (char) Math.min(first, letter);
+            last = (char) Math.max(last, letter);
+        }
+        if (letters.length == 0) {
+            return new LetterFilter(Character.MIN_VALUE, new int[0]);
+        }
+        int[] counts = new int[last - first + 1];
+        for (char letter : letters) {
+            counts[letter - first]++;
+        }
+        return new LetterFilter(first, counts);
+    }
+    
+    /**
+     * Gets how many copies of a letter the grid has.
+     *
+     * @param letter the letter
+     * @return how many cells hold the letter
+     */
+    public int count(char letter) {
+        int index = letter - firstLetter;
+        return index >= 0 && index < counts.length ? counts[index] : 0;
+    }
+    
+    /**
+     * Updates the counts for a cell that changed.
+     *
+     * @param removed the letters the cell held
+     * @param added   the letters the cell holds now
+     */
+    void replace(CharSequence removed, CharSequence added) {
+        for (int i = 0; i < removed.length(); i++) {
+            counts[removed.charAt(i) - firstLetter]--;
+        }
+        for (int i = 0; i < added.length(); i++) {
+            char letter = added.charAt(i);
+            if (counts.length == 0) {
+                firstLetter = letter;
+                counts = new int[1];
+            } else if (letter < firstLetter) {
+                int[] grown = new int[counts.length + firstLetter - letter];
+                System.arraycopy(counts, 0, grown, firstLetter - letter, counts.length);
+                firstLetter = letter;
+                counts = grown;
+            } else if (letter - firstLetter >= counts.length) {
+                counts = Arrays.copyOf(counts, letter - firstLetter + 1);
+            }
+            counts[letter - firstLetter]++;
+        }
+    }
+    
+    /**
+     * Raises the counts to at least another filter's, so this filter keeps every word either
+     * filter kept.
+     *
+     * @param other the filter to include
+     */
+    void include(LetterFilter other) {
+        for (int i = 0; i < other.counts.length; i++) {
+            char letter = (char) (other.firstLetter + i);
+            int missing = other.counts[i] - count(letter);
+            if (missing > 0) {
+                replace("", String.valueOf(letter).repeat(missing));
+            }
+        }
+    }
+    
+    /**
+     * Makes a copy of the counts that doesn't change when this filter does.
+     *
+     * @return the copy
+     */
+    LetterFilter copy() {
+        return new LetterFilter(firstLetter, counts.clone());
+    }
+    
+    /**
+     * Checks if this filter has at least as many of each letter as another, so it keeps every
+     * word the other keeps.
+     *
+     * @param other the filter to compare with
+     * @return true if the other filter has no letter more often than this one
+     */
+    boolean covers(LetterFilter other) {
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] > count((char) (other.firstLetter + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Checks if the grid has enough of each letter to spell a word.
+     *
+     * @param word the word to check
+     * @return true if the word could be somewhere in the grid
+     */
+    public boolean accepts(CharSequence word) {
+        int[] remaining = counts.clone();
+        for (int i = 0; i < word.length(); i++) {
+            int index = word.charAt(i) - firstLetter;
+            if (index < 0 || index >= remaining.length || remaining[index]-- == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Cuts a collection of words down to the ones the grid has enough letters for. Words shorter
+     * than {@value GameBoard#MIN_WORD_LENGTH} letters are left out, since they are never found.
+     *
+     * @param words the words to filter
+     * @return the words that pass, in the same order
+     */
+    public List<String> filter(Collection<String> words) {
+        return words.parallelStream()
+                .filter(word -> word.length() >= GameBoard.MIN_WORD_LENGTH && accepts(word))
+                .toList();
+    }
+    
+    /**
+     * Builds a trie of the words in a prefix index the grid has enough letters for. Words shorter
+     * than {@value GameBoard#MIN_WORD_LENGTH} letters are left out, since they are never found.
+     *
+     * @param index the prefix index to filter
+     * @return a trie of the words that pass
+     */
+    public ArrayTrie filter(PrefixIndex index) {
+        List<String> words = new ArrayList<>();
+        walk(index, index.root(), new StringBuilder(), counts.clone(), words);
+        return ArrayTrie.of(words);
+    }
+    
+    /**
+     * Helper to walk a prefix index using only the letters the grid has left.
+     *
+     * @param index     the prefix index being filtered
+     * @param node      the node for the current prefix
+     * @param prefix    the current prefix, restored before returning
+     * @param remaining how many of each letter are left, restored before returning
+     * @param words     where words that pass are added
+     */
+    private void walk(PrefixIndex index, int node, StringBuilder prefix, int[] remaining,
+                      List<String> words) {
+        if (prefix.length() >= GameBoard.MIN_WORD_LENGTH && index.isWord(node)) {
+            words.add(prefix.toString());
+        }
+        for (int i = 0; i < remaining.length; i++) {
+            if (remaining[i] == 0) {
+                continue;
+            }
+            char letter = (char) (firstLetter + i);
+            int child = index.child(node, letter);
+            if (child != PrefixIndex.NONE) {
+                remaining[i]--;
+                prefix.append(letter);
+                walk(index, child, prefix, remaining, words);
+                prefix.setLength(prefix.length() - 1);
+                remaining[i]++;
+            }
+        }
+    }
+    
+    /**
+     * How much a dictionary was cut down for a grid.
+     *
+     * @param dictionaryWords how many words the whole dictionary has
+     * @param keptWords       how many words the grid has enough letters for
+     * @param time            how long filtering took
+     */
+    public record Stats(int dictionaryWords, int keptWords, Duration time) {
+        /**
+         * Gets how many words were thrown out.
+         *
+         * @return the number of words the grid doesn't have enough letters for
+         */
+        public int eliminatedWords() {
+            return dictionaryWords - keptWords;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("Kept %d of %d words (%d eliminated) in %.6f seconds",
+                    keptWords, dictionaryWords, eliminatedWords(), time.toNanos() / 1e9);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+/**
+ * A word found in a straight line in a grid, the way words are hidden in a classic word search
+ * puzzle.
+ *
+ * @param word      the word
+ * @param row       the row of the cell the word starts in
+ * @param col       the column of the cell the word starts in
+ * @param direction which way the word reads from its start cell
+ * @param length    how many cells the word covers, fewer than its letters if it uses tiles
+ * @author Patrick Rafferty
+ */
+public record LineMatch(String word, int row, int col, Direction direction, int length) {
+    /**
+     * Gets the ids of the cells the word covers, in order.
+     *
+     * @param cols how many columns the grid has
+     * @return the cell ids, each row * cols + col
+     */
+    public int[] cells(int cols) {
+        int[] cells = new int[length];
+        for (int i = 0; i < length; i++) {
+            cells[i] = (row + i * direction.rowStep()) * cols + col + i * direction.colStep();
+        }
+        return cells;
+    }
+    
+    @Override
+    public String toString() {
+        return word + " (" + row + ", " + col + ") " + direction;
+    }
+    
+    /**
+     * The eight ways a word can read in a straight line.
+     */
+    public enum Direction {
+        /**
+         * Left to right.
+         */
+        EAST(0, 1),
+        /**
+         * Right to left.
+         */
+        WEST(0, -1),
+        /**
+         * Top to bottom.
+         */
+        SOUTH(1, 0),
+        /**
+         * Bottom to top.
+         */
+        NORTH(-1, 0),
+        /**
+         * Down and to the right.
+         */
+        SOUTH_EAST(1, 1),
+        /**
+         * Up and to the left.
+         */
+        NORTH_WEST(-1, -1),
+        /**
+         * Down and to the left.
+         */
+        SOUTH_WEST(1, -1),
+        /**
+         * Up and to the right.
+         */
+        NORTH_EAST(-1, 1);
+        
+        /**
+         * How many rows each step moves.
+         */
+        private final int rowStep;
+        /**
+         * How many columns each step moves.
+         */
+        private final int colStep;
+        
+        /**
+         * Creates a direction.
+         *
+         * @param rowStep how many rows each step moves
+         * @param colStep how many columns each step moves
+         */
+        Direction(int rowStep, int colStep) {
+            this.rowStep = rowStep;
+            this.colStep = colStep;
+        }
+        
+        /**
+         * Gets how many rows each step moves.
+         *
+         * @return -1, 0 or 1
+         */
+        public int rowStep() {
+            return rowStep;
+        }
+        
+        /**
+         * Gets how many columns each step moves.
+         *
+         * @return -1, 0 or 1
+         */
+        public int colStep() {
+            return colStep;
+        }
+    }
+}
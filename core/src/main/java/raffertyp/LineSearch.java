@@ -0,0 +1,216 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds words written in straight lines in a grid, reading across, down or diagonally in either
+ * direction, like a classic word search puzzle.
+ *
+ * <p>
+ * Every row, column and diagonal is read in each direction once through an Aho-Corasick
+ * automaton built from the dictionary. The automaton is a trie of the words where each node
+ * also knows which node to fall back to when the next letter doesn't continue any word, the node
+ * for the longest end of the letters read so far that starts a word. Fallbacks are followed while
+ * it is built, so the table holds the next node for every letter and reading a letter is a
+ * single lookup. Each node also links to the next fallback that ends a word, so every word ending
+ * at a letter is found without walking fallbacks that don't. Searching is linear in the size of
+ * the grid plus the words found, however big the dictionary is.
+ * </p>
+ *
+ * <p>
+ * The table has a row of 26 entries for every node of the dictionary's trie, so it takes a lot
+ * more memory than the trie. A search is immutable once built and can be shared between threads.
+ * Words can use tiles, which must be used whole, so a word can't start or end part way through a
+ * tile.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class LineSearch {
+    /**
+     * How many letters a word can have.
+     */
+    private static final int ALPHABET_SIZE = 26;
+    /**
+     * Node to go to for each node and letter, indexed by node * 26 + letter.
+     */
+    private final int[] transitions;
+    /**
+     * Length of the word each node ends, 0 if it doesn't end one that counts.
+     */
+    private final int[] wordLengths;
+    /**
+     * The nearest fallback of each node that ends a word, 0 if there isn't one.
+     */
+    private final int[] outputs;
+    
+    /**
+     * Creates a search from its tables.
+     *
+     * @param transitions node to go to for each node and letter
+     * @param wordLengths length of the word each node ends
+     * @param outputs     the nearest fallback of each node that ends a word
+     */
+    private LineSearch(int[] transitions, int[] wordLengths, int[] outputs) {
+        this.transitions = transitions;
+        this.wordLengths = wordLengths;
+        this.outputs = outputs;
+    }
+    
+    /**
+     * Builds a search for the words in a collection. Words with characters outside a-z are
+     * skipped.
+     *
+     * @param words the words to search for
+     * @return the search
+     */
+    public static LineSearch of(Collection<String> words) {
+        return of(ArrayTrie.of(words));
+    }
+    
+    /**
+     * Builds a search for the words in a prefix index. Only words of at least 3 letters are
+     * searched for.
+     *
+     * @param index the words to search for
+     * @return the search
+     */
+    public static LineSearch of(PrefixIndex index) {
+        int capacity = 1024;
+        int[] transitions = new int[capacity * ALPHABET_SIZE];
+        int[] wordLengths = new int[capacity];
+        int[] outputs = new int[capacity];
+        int[] fallbacks = new int[capacity];
+        int[] indexNodes = new int[capacity];
+        int[] depths = new int[capacity];
+        indexNodes[0] = index.root();
+        int nodeCount = 1;
+        // New nodes are added to the end, so this visits nodes in order of depth and a node's
+        // fallback, which is shallower, always has its row of the table filled in already
+        for (int node = 0; node < nodeCount; node++) {
+            int fallback = fallbacks[node];
+            for (int letter = 0; letter < ALPHABET_SIZE; letter++) {
+                int indexChild = index.child(indexNodes[node], (char) ('a' + letter));
+                int next = node == 0 ? 0 : transitions[fallback * ALPHABET_SIZE + letter];
+                if (indexChild == PrefixIndex.NONE) {
+                    transitions[node * ALPHABET_SIZE + letter] = next;
+                    continue;
+                }
+                if (nodeCount == capacity) {
+                    capacity *= 2;
+                    transitions = Arrays.copyOf(transitions, capacity * ALPHABET_SIZE);
+                    wordLengths = Arrays.copyOf(wordLengths, capacity);
+                    outputs = Arrays.copyOf(outputs, capacity);
+                    fallbacks = Arrays.copyOf(fallbacks, capacity);
+                    indexNodes = Arrays.copyOf(indexNodes, capacity);
+                    depths = Arrays.copyOf(depths, capacity);
+                }
+                int child = nodeCount++;
+                transitions[node * ALPHABET_SIZE + letter] = child;
+                indexNodes[child] = indexChild;
+                depths[child] = depths[node] + 1;
+                fallbacks[child] = next;
+                if (depths[child] >= GameBoard.MIN_WORD_LENGTH && index.isWord(indexChild)) {
+                    wordLengths[child] = depths[child];
+                }
+                outputs[child] = wordLengths[next] != 0 ? next : outputs[next];
+            }
+        }
+        return new LineSearch(Arrays.copyOf(transitions, nodeCount * ALPHABET_SIZE),
+                Arrays.copyOf(wordLengths, nodeCount), Arrays.copyOf(outputs, nodeCount));
+    }
+    
+    /**
+     * Gets how many nodes the automaton has.
+     *
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return wordLengths.length;
+    }
+    
+    /**
+     * Finds every word in a straight line in a grid. A word found more than once is listed for
+     * each place it was found.
+     *
+     * @param grid the grid to search
+     * @return the words found, by direction, then by the line they were found in, then by where
+     * they end in the line
+     */
+    public List<LineMatch> find(Grid grid) {
+        return Arrays.stream(LineMatch.Direction.values()).parallel()
+                .flatMap(direction -> find(grid, direction).stream()).toList();
+    }
+    
+    /**
+     * Helper to find every word reading one way through a grid.
+     *
+     * @param grid      the grid to search
+     * @param direction which way to read
+     * @return the words found
+     */
+    private List<LineMatch> find(Grid grid, LineMatch.Direction direction) {
+        int rows = grid.rows();
+        int cols = grid.cols();
+        char[] letters = grid.letters();
+        TileTable tiles = grid.tiles();
+        int longestTile = tiles.tiles().stream().mapToInt(String::length).max().orElse(1);
+        char[] line = new char[Math.max(rows, cols) * longestTile];
+        int[] steps = new int[line.length];
+        List<LineMatch> matches = new ArrayList<>();
+        int rowStep = direction.rowStep();
+        int colStep = direction.colStep();
+        for (int start = 0; start < letters.length; start++) {
+            int startRow = start / cols;
+            int startCol = start % cols;
+            int previousRow = startRow - rowStep;
+            int previousCol = startCol - colStep;
+            if (previousRow >= 0 && previousRow < rows && previousCol >= 0 &&
+                    previousCol < cols) {
+                // Not the first cell of a line
+                continue;
+            }
+            int node = 0;
+            int position = 0;
+            int step = 0;
+            for (int row = startRow, col = startCol; row >= 0 && row < rows && col >= 0 &&
+                    col < cols; row += rowStep, col += colStep, step++) {
+                char cell = letters[row * cols + col];
+                String text = tiles.isTile(cell) ? tiles.text(cell) : null;
+                int length = text == null ? 1 : text.length();
+                for (int i = 0; i < length; i++) {
+                    char letter = text == null ? cell : text.charAt(i);
+                    int index = letter - 'a';
+                    node = index >= 0 && index < ALPHABET_SIZE ?
+                            transitions[node * ALPHABET_SIZE + index] : 0;
+                    line[position] = letter;
+                    steps[position] = step;
+                    position++;
+                }
+                for (int found = wordLengths[node] != 0 ? node : outputs[node]; found != 0;
+                     found = outputs[found]) {
+                    int first = position - wordLengths[found];
+                    if (first > 0 && steps[first - 1] == steps[first]) {
+                        // Starts part way through a tile
+                        continue;
+                    }
+                    int firstStep = steps[first];
+                    matches.add(new LineMatch(new String(line, first, wordLengths[found]),
+                            startRow + firstStep * rowStep, startCol + firstStep * colStep,
+                            direction, step - firstStep + 1));
+                }
+            }
+        }
+        return matches;
+    }
+}
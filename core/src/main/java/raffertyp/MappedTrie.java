@@ -0,0 +1,165 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A trie searched directly from a memory mapped file made by {@link #write(ArrayTrie, Path)}.
+ *
+ * <p>
+ * The file holds the same arrays as an {@link ArrayTrie}, so loading it does no parsing at all and
+ * every JVM that maps the same file shares its pages. The file starts with a header of five ints:
+ * a magic number, the format version, the node count, the word count and the longest word length.
+ * After that come the node masks and then the first child indices, one int per node each.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class MappedTrie implements PrefixIndex {
+    /**
+     * Marks the start of a compiled trie file.
+     */
+    static final int MAGIC = 0x42475452;
+    /**
+     * Version of the file format written by this class.
+     */
+    static final int VERSION = 1;
+    /**
+     * How many ints are in the file header.
+     */
+    static final int HEADER_INTS = 5;
+    /**
+     * Child mask and word flag for each node.
+     */
+    private final IntBuffer masks;
+    /**
+     * Index of the first child of each node.
+     */
+    private final IntBuffer firstChild;
+    /**
+     * How many words are in the trie.
+     */
+    private final int wordCount;
+    /**
+     * Length of the longest word in the trie.
+     */
+    private final int longestWordLength;
+    
+    /**
+     * Creates a trie over a mapped file.
+     *
+     * @param buffer the mapped file, already checked to have a valid header
+     */
+    private MappedTrie(MappedByteBuffer buffer) {
+        IntBuffer ints = buffer.asIntBuffer();
+        int nodeCount = ints.get(2);
+        wordCount = ints.get(3);
+        longestWordLength = ints.get(4);
+        masks = ints.slice(HEADER_INTS, nodeCount);
+        firstChild = ints.slice(HEADER_INTS + nodeCount, nodeCount);
+    }
+    
+    /**
+     * Maps a compiled trie file into memory.
+     *
+     * @param path the path of the compiled file
+     * @return the trie
+     * @throws IOException if there was a problem reading the file or it is not a compiled trie
+     */
+    public static MappedTrie map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_INTS * Integer.BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a compiled dictionary: " + path);
+            }
+            if (buffer.getInt(Integer.BYTES) != VERSION) {
+                throw new IOException("Unsupported dictionary version " +
+                        buffer.getInt(Integer.BYTES) + ": " + path);
+            }
+            long nodeCount = buffer.getInt(2 * Integer.BYTES);
+            if (buffer.capacity() != (HEADER_INTS + 2 * nodeCount) * Integer.BYTES) {
+                throw new IOException("Compiled dictionary is truncated: " + path);
+            }
+            return new MappedTrie(buffer);
+        }
+    }
+    
+    /**
+     * Writes a trie to a file that can be loaded with {@link #map(Path)}.
+     *
+     * @param trie the trie to write
+     * @param path the path of the file to write
+     * @throws IOException if there was a problem writing the file
+     */
+    public static void write(ArrayTrie trie, Path path) throws IOException {
+        int nodeCount = trie.nodeCount();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            IntBuffer ints = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (HEADER_INTS + 2L * nodeCount) * Integer.BYTES).asIntBuffer();
+            ints.put(MAGIC).put(VERSION).put(nodeCount).put(trie.wordCount())
+                    .put(trie.longestWordLength());
+            for (int node = 0; node < nodeCount; node++) {
+                ints.put(trie.mask(node));
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                ints.put(trie.firstChild(node));
+            }
+        }
+    }
+    
+    @Override
+    public int root() {
+        return 0;
+    }
+    
+    @Override
+    public int child(int node, char letter) {
+        int index = letter - 'a';
+        if (index < 0 || index >= ArrayTrie.ALPHABET_SIZE) {
+            return NONE;
+        }
+        int mask = masks.get(node);
+        int bit = 1 << index;
+        if ((mask & bit) == 0) {
+            return NONE;
+        }
+        return firstChild.get(node) + Integer.bitCount(mask & (bit - 1));
+    }
+    
+    @Override
+    public boolean isWord(int node) {
+        return (masks.get(node) & ArrayTrie.WORD_BIT) != 0;
+    }
+    
+    @Override
+    public int wordCount() {
+        return wordCount;
+    }
+    
+    @Override
+    public int longestWordLength() {
+        return longestWordLength;
+    }
+    
+    /**
+     * Gets how many nodes are in the trie.
+     *
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return masks.capacity();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.stream.IntStream;
+
+/**
+ * Decides which cells a word can move to next.
+ *
+ * <p>
+ * A rule is only asked for neighbours when a grid is loaded, the answers are stored in an
+ * {@link Adjacency} table that the searches read from.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+@FunctionalInterface
+public interface NeighbourRule {
+    /**
+     * Lists the neighbours of a cell. Cells are identified by row * cols + col.
+     *
+     * @param row  the row of the cell
+     * @param col  the column of the cell
+     * @param rows how many rows are in the grid
+     * @param cols how many columns are in the grid
+     * @return the ids of the neighbouring cells
+     */
+    IntStream neighbours(int row, int col, int rows, int cols);
+    
+    /**
+     * Checks if rotating or reflecting a grid gives the same neighbours, moved along with the
+     * cells. If so, a grid and its rotations and reflections all have the same words. Rules are
+     * assumed not to be unless they say so.
+     *
+     * @return true if the rule is unchanged by rotations and reflections
+     */
+    default boolean isSymmetric() {
+        return false;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A sorted word list packed into one byte array, searched by binary search on the bytes.
+ *
+ * <p>
+ * Every word's letters are stored one byte each, back to back in sorted order, with an int
+ * offset table giving where each word starts. That is one byte per letter and four per word,
+ * without the header, array and pointer a String in a Collection costs. Words sharing a prefix
+ * sit next to each other, so a prefix is a range of word numbers. The range of a longer prefix
+ * is inside its parent's range, and all of the parent's words share its letters, so narrowing a
+ * range by a letter mostly compares one byte per step. Only words made of the letters a-z are
+ * indexed.
+ * </p>
+ *
+ * <p>
+ * As a {@link PrefixIndex}, a node is the first word of its range and the prefix length, as the
+ * range's end doesn't fit in an int alongside them. Instead of carrying the end, each step
+ * searches outwards from the first word, doubling its stride, and then binary searches the last
+ * stride, so it only looks at about twice the log of how many words come before the letter. Below
+ * the first couple of letters ranges are small, so this costs little more than a binary search
+ * over a known range, and every search that takes a {@link PrefixIndex} can use it unchanged.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class PackedDictionary implements PrefixIndex {
+    /**
+     * How many low bits of a node hold the prefix length.
+     */
+    private static final int DEPTH_BITS = 6;
+    /**
+     * Longest word that can be indexed, the most the depth bits of a node can hold.
+     */
+    static final int MAX_WORD_LENGTH = (1 << DEPTH_BITS) - 1;
+    /**
+     * Most words that can be indexed, so the first word of a range fits in a node.
+     */
+    static final int MAX_WORDS = Integer.MAX_VALUE >>> DEPTH_BITS;
+    /**
+     * Letters of every word, in sorted order.
+     */
+    private final byte[] letters;
+    /**
+     * Where each word starts in letters, with one more entry for the end of the last word.
+     */
+    private final int[] offsets;
+    /**
+     * Length of the longest word.
+     */
+    private final int longestWordLength;
+    
+    /**
+     * Creates a dictionary from already packed arrays.
+     *
+     * @param letters           letters of every word, in sorted order
+     * @param offsets           where each word starts, then where the last word ends
+     * @param longestWordLength length of the longest word
+     */
+    private PackedDictionary(byte[] letters, int[] offsets, int longestWordLength) {
+        this.letters = letters;
+        this.offsets = offsets;
+        this.longestWordLength = longestWordLength;
+    }
+    
+    /**
+     * Packs a collection of words. Words with characters outside a-z, or longer than 63 letters,
+     * are skipped.
+     *
+     * @param words the words to pack
+     * @return the packed dictionary
+     * @throws IllegalArgumentException if there are too many words to pack
+     */
+    public static PackedDictionary of(Collection<String> words) {
+        String[] sorted = words.stream()
+                .filter(word -> word.length() <= MAX_WORD_LENGTH && ArrayTrie.isIndexable(word))
+                .sorted().distinct().toArray(String[]::new);
+        if (sorted.length > MAX_WORDS) {
+            throw new IllegalArgumentException("Too many words: " + sorted.length);
+        }
+        int[] offsets = new int[sorted.length + 1];
+        long size = 0;
+        int longest = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            offsets[i] = (int) size;
+            size += sorted[i].length();
+            longest = Math.max(longest, sorted[i].length());
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many letters to pack");
+            }
+        }
+        offsets[sorted.length] = (int) size;
+        byte[] letters = new byte[(int) size];
+        for (int i = 0; i < sorted.length; i++) {
+            for (int j = 0; j < sorted[i].length(); j++) {
+                letters[offsets[i] + j] = (byte) sorted[i].charAt(j);
+            }
+        }
+        return new PackedDictionary(letters, offsets, longest);
+    }
+    
+    /**
+     * Packs a file with one word per line, read by a {@link DictionaryLoader}.
+     *
+     * @param path the path of the file with words
+     * @return the packed dictionary
+     * @throws IOException if there was a problem reading the file
+     */
+    public static PackedDictionary load(Path path) throws IOException {
+        return of(new DictionaryLoader().load(path).words());
+    }
+    
+    /**
+     * Gets a word by its number in sorted order.
+     *
+     * @param index the number of the word
+     * @return the word
+     */
+    public String word(int index) {
+        return new String(letters, offsets[index], length(index),
+                StandardCharsets.ISO_8859_1);
+    }
+    
+    @Override
+    public int root() {
+        return 0;
+    }
+    
+    @Override
+    public int child(int node, char letter) {
+        int depth = node & MAX_WORD_LENGTH;
+        int start = node >>> DEPTH_BITS;
+        int count = wordCount();
+        if (depth == MAX_WORD_LENGTH || start == count) {
+            return NONE;
+        }
+        // Search outwards for the first word that doesn't come before the letter, which is also
+        // the first word past the end of the node's range if no word continues with it
+        int low = start;
+        int high = start;
+        int step = 1;
+        while (high < count && before(start, high, depth, letter)) {
+            low = high + 1;
+            high = (int) Math.min(count, (long) start + step);
+            step <<= 1;
+        }
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (before(start, middle, depth, letter)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == count || key(low, depth) != letter || !sharesPrefix(start, low, depth)) {
+            return NONE;
+        }
+        return low << DEPTH_BITS | depth + 1;
+    }
+    
+    @Override
+    public boolean isWord(int node) {
+        int start = node >>> DEPTH_BITS;
+        return start < wordCount() && length(start) == (node & MAX_WORD_LENGTH);
+    }
+    
+    @Override
+    public int wordCount() {
+        return offsets.length - 1;
+    }
+    
+    @Override
+    public int longestWordLength() {
+        return longestWordLength;
+    }
+    
+    /**
+     * Gets roughly how many bytes of heap the dictionary's arrays take up.
+     *
+     * @return the size of the arrays in bytes
+     */
+    public long heapBytes() {
+        return letters.length + (long) offsets.length * Integer.BYTES;
+    }
+    
+    /**
+     * Helper to get the length of a word.
+     *
+     * @param index the number of the word
+     * @return how many letters it has
+     */
+    private int length(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+    
+    /**
+     * Helper to get the letter of a word after a prefix, the only part of the word that differs
+     * within the prefix's range.
+     *
+     * @param index the number of the word
+     * @param depth how many letters the prefix has
+     * @return the letter, or -1 if the word is the prefix itself, which sorts first
+     */
+    private int key(int index, int depth) {
+        return length(index) > depth ? letters[offsets[index] + depth] : -1;
+    }
+    
+    /**
+     * Helper to check if a word starts with the same letters as the first word of a range.
+     *
+     * @param start the first word of the range
+     * @param index the number of the word to check
+     * @param depth how many letters the range's prefix has
+     * @return true if the word is in the range
+     */
+    private boolean sharesPrefix(int start, int index, int depth) {
+        return length(index) >= depth && Arrays.mismatch(letters, offsets[start],
+                offsets[start] + depth, letters, offsets[index], offsets[index] + depth) < 0;
+    }
+    
+    /**
+     * Helper to check if a word comes before the words continuing a prefix with a letter, in
+     * the order of the words from the first word of the prefix's range onwards.
+     *
+     * @param start  the first word of the prefix's range
+     * @param index  the number of the word to check, at least start
+     * @param depth  how many letters the prefix has
+     * @param letter the letter
+     * @return true if the word is in the prefix's range and sorts before the letter
+     */
+    private boolean before(int start, int index, int depth, char letter) {
+        return key(index, depth) < letter && sharesPrefix(start, index, depth);
+    }
+}
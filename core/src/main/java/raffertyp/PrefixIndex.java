@@ -0,0 +1,99 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+/**
+ * A dictionary that can be walked one letter at a time.
+ *
+ * <p>
+ * Nodes are identified by ints. Starting from {@link #root()}, each call to
+ * {@link #child(int, char)} follows one letter, so a search can extend a prefix without building
+ * a String for it.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public interface PrefixIndex {
+    /**
+     * Returned by {@link #child(int, char)} when no word continues with the letter.
+     */
+    int NONE = -1;
+    
+    /**
+     * Gets the node for the empty prefix.
+     *
+     * @return the root node
+     */
+    int root();
+    
+    /**
+     * Follows one letter from a node.
+     *
+     * @param node   the node for the current prefix
+     * @param letter the next letter
+     * @return the node for the extended prefix, or {@link #NONE} if no word starts with it
+     */
+    int child(int node, char letter);
+    
+    /**
+     * Checks if the prefix for a node is a complete word.
+     *
+     * @param node the node to check
+     * @return true if the node ends a word
+     */
+    boolean isWord(int node);
+    
+    /**
+     * Gets how many words are in this index.
+     *
+     * @return the number of words
+     */
+    int wordCount();
+    
+    /**
+     * Gets the length of the longest word in this index.
+     *
+     * @return the longest word length
+     */
+    int longestWordLength();
+    
+    /**
+     * Finds the node for a prefix.
+     *
+     * @param prefix the prefix to walk
+     * @return the node for the prefix, or {@link #NONE} if no word starts with it
+     */
+    default int find(CharSequence prefix) {
+        int node = root();
+        for (int i = 0; i < prefix.length() && node != NONE; i++) {
+            node = child(node, prefix.charAt(i));
+        }
+        return node;
+    }
+    
+    /**
+     * Checks if a word is in this index.
+     *
+     * @param word the word to look for
+     * @return true if the word is in the index
+     */
+    default boolean contains(CharSequence word) {
+        int node = find(word);
+        return node != NONE && isWord(node);
+    }
+    
+    /**
+     * Checks if any word in this index starts with a prefix.
+     *
+     * @param prefix the prefix to look for
+     * @return true if at least one word starts with the prefix
+     */
+    default boolean hasPrefix(CharSequence prefix) {
+        return find(prefix) != NONE;
+    }
+}
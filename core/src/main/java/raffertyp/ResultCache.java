@@ -0,0 +1,169 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the words found in recently solved grids, so solving the same grid again is just a
+ * lookup. The least recently used grid is forgotten once the cache is full.
+ *
+ * <p>
+ * Results are keyed by the grid, the neighbour rule and the dictionary. When the rule is
+ * {@link NeighbourRule#isSymmetric() symmetric} the grid is first turned into its
+ * {@link Grid#canonical() canonical} rotation or reflection, so a board that is just turned around
+ * finds the same entry. Dictionaries are compared by identity, not contents. A cache is thread
+ * safe and can be shared between boards.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class ResultCache {
+    /**
+     * The cached results, in least recently used order.
+     */
+    private final Map<Key, Set<String>> results;
+    /**
+     * How many lookups found a result.
+     */
+    private long hits;
+    /**
+     * How many lookups had to solve the grid.
+     */
+    private long misses;
+    /**
+     * How many results were forgotten to make room.
+     */
+    private long evictions;
+    
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxEntries how many results to keep
+     * @throws IllegalArgumentException if the cache can't hold any results
+     */
+    public ResultCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least 1 result: " + maxEntries);
+        }
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Set<String>> eldest) {
+                if (size() > maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    /**
+     * Gets the words found in a grid, solving it if it isn't cached. The grid is solved without
+     * holding the cache's lock, so two threads asking for the same new grid may both solve it.
+     *
+     * @param grid       the grid being solved
+     * @param rule       the rule for which cells a word can move between
+     * @param dictionary the dictionary being searched with, compared by identity
+     * @param solver     finds the words in the grid if it isn't cached
+     * @return a copy of the found words, which the caller can change
+     */
+    public Set<String> get(Grid grid, NeighbourRule rule, Object dictionary,
+                           Supplier<Set<String>> solver) {
+        Key key = new Key(rule.isSymmetric() ? grid.canonical() : grid, rule, dictionary);
+        Set<String> words;
+        synchronized (this) {
+            words = results.get(key);
+            if (words != null) {
+                hits++;
+                return new LinkedHashSet<>(words);
+            }
+            misses++;
+        }
+        words = Collections.unmodifiableSet(new LinkedHashSet<>(solver.get()));
+        synchronized (this) {
+            results.put(key, words);
+        }
+        return new LinkedHashSet<>(words);
+    }
+    
+    /**
+     * Gets how many lookups found a cached result.
+     *
+     * @return the number of hits
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+    
+    /**
+     * Gets how many lookups had to solve their grid.
+     *
+     * @return the number of misses
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+    
+    /**
+     * Gets how many results were forgotten to make room for newer ones.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+    
+    /**
+     * Gets how many results are cached.
+     *
+     * @return the number of cached results
+     */
+    public synchronized int size() {
+        return results.size();
+    }
+    
+    /**
+     * Forgets every cached result. The counters are kept.
+     */
+    public synchronized void clear() {
+        results.clear();
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return "Cache: " + results.size() + " results, " + hits + " hits, " + misses +
+                " misses, " + evictions + " evictions";
+    }
+    
+    /**
+     * What a result is cached under.
+     *
+     * @param grid       the grid, canonical if the rule is symmetric
+     * @param rule       the rule for which cells a word can move between
+     * @param dictionary the dictionary searched with
+     */
+    private record Key(Grid grid, NeighbourRule rule, Object dictionary) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && grid.equals(other.grid) && rule.equals(other.rule) &&
+                    dictionary == other.dictionary;
+        }
+        
+        @Override
+        public int hashCode() {
+            return (grid.hashCode() * 31 + rule.hashCode()) * 31 +
+                    System.identityHashCode(dictionary);
+        }
+    }
+}
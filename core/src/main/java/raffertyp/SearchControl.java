@@ -0,0 +1,136 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets a streaming search be cancelled, and stops it once it runs out of time or has found enough
+ * words. One control is meant for one search.
+ *
+ * @author Patrick Rafferty
+ */
+public final class SearchControl {
+    /**
+     * Deadline used when there is no time limit.
+     */
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    /**
+     * The System.nanoTime() after which the search stops.
+     */
+    private final long deadline;
+    /**
+     * How many words can be reported before the search stops.
+     */
+    private final long maxWords;
+    /**
+     * How many words have been reported.
+     */
+    private final AtomicLong wordCount = new AtomicLong();
+    /**
+     * Set once the search should stop.
+     */
+    private volatile boolean stopped;
+    
+    /**
+     * Creates a control.
+     *
+     * @param deadline the System.nanoTime() after which the search stops
+     * @param maxWords how many words can be reported before the search stops
+     */
+    private SearchControl(long deadline, long maxWords) {
+        this.deadline = deadline;
+        this.maxWords = maxWords;
+    }
+    
+    /**
+     * Creates a control that only stops the search if it is cancelled.
+     *
+     * @return the control
+     */
+    public static SearchControl unlimited() {
+        return new SearchControl(NO_DEADLINE, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Creates a control with a time limit and word limit, starting the time limit now.
+     *
+     * @param timeLimit how long the search can run for, or null for no time limit
+     * @param maxWords  how many words can be reported before the search stops
+     * @return the control
+     * @throws IllegalArgumentException if the word limit is negative
+     */
+    public static SearchControl of(Duration timeLimit, long maxWords) {
+        if (maxWords < 0) {
+            throw new IllegalArgumentException("Word limit can't be negative: " + maxWords);
+        }
+        return new SearchControl(timeLimit == null ? NO_DEADLINE :
+                System.nanoTime() + timeLimit.toNanos(), maxWords);
+    }
+    
+    /**
+     * Stops the search. Words being reported right now may still arrive.
+     */
+    public void cancel() {
+        stopped = true;
+    }
+    
+    /**
+     * Checks if the search should stop, either because it was cancelled or ran out of budget.
+     *
+     * @return true if the search should stop
+     */
+    public boolean isStopped() {
+        if (!stopped && deadline != NO_DEADLINE && System.nanoTime() - deadline > 0) {
+            stopped = true;
+        }
+        return stopped;
+    }
+    
+    /**
+     * Gets how many words have been reported.
+     *
+     * @return the number of words reported
+     */
+    public long wordCount() {
+        return Math.min(wordCount.get(), maxWords);
+    }
+    
+    /**
+     * Makes a listener that counts each word against the word limit before passing it on, and
+     * drops words once the limit has been reached. It should be told about each word only once,
+     * after any duplicates have been dropped, so duplicates don't use up the limit.
+     *
+     * @param listener the listener to pass words on to
+     * @return the listener that counts words
+     */
+    WordListener counting(WordListener listener) {
+        return (word, path) -> {
+            if (countWord()) {
+                listener.wordFound(word, path);
+            }
+        };
+    }
+    
+    /**
+     * Counts a word against the word limit.
+     *
+     * @return true if the word can be reported, false if the limit has been reached
+     */
+    boolean countWord() {
+        if (stopped) {
+            return false;
+        }
+        long count = wordCount.incrementAndGet();
+        if (count >= maxWords) {
+            stopped = true;
+        }
+        return count <= maxWords;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+/**
+ * The ways a GameBoard can search its grid.
+ *
+ * @author Patrick Rafferty
+ */
+public enum SearchEngine {
+    /**
+     * Recursive search that builds up Strings as it goes. This is the only engine that works
+     * with a Collection dictionary.
+     */
+    RECURSIVE,
+    /**
+     * Search with an explicit stack, a reused letter buffer and a bit set of visited cells, so
+     * only found words are allocated. Needs a prefix index.
+     */
+    ITERATIVE,
+    /**
+     * Iterative search run as fork/join tasks that also split on the first few letters of a path,
+     * so long running start cells are shared between threads. Needs a prefix index.
+     */
+    FORK_JOIN,
+    /**
+     * Iterative search that keeps the current path and each cell's neighbours as 64 bit masks.
+     * Only works on grids with at most {@value Adjacency#MAX_MASK_CELLS} cells, larger grids are
+     * searched with {@link #ITERATIVE} instead. This is the default for a prefix index.
+     */
+    BITBOARD
+}
@@ -0,0 +1,336 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts what a search did, to find out why a grid is slow to search.
+ *
+ * <p>
+ * Each thread counts into its own {@link Counter} with plain fields, and adds its counts to the
+ * shared totals once it finishes a start cell, so threads don't fight over the totals on every
+ * step. Searches only count when they are given metrics, otherwise the counting code is skipped.
+ * Depths are path lengths, so the start cell is at depth 1.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class SearchMetrics {
+    /**
+     * How many cells were added to a path.
+     */
+    private final LongAdder nodesExpanded = new LongAdder();
+    /**
+     * How many times the prefix index was asked for a child node.
+     */
+    private final LongAdder prefixProbes = new LongAdder();
+    /**
+     * How many times a path could not be extended because no word starts with it, by the depth
+     * of the path that was rejected.
+     */
+    private final LongAdder[] pruneHits;
+    /**
+     * How many paths ended without being extended by any neighbour, by depth.
+     */
+    private final LongAdder[] deadEnds;
+    /**
+     * How long searching from each start cell took, in nanoseconds. Each cell is only written by
+     * the thread that searches it.
+     */
+    private final long[] startCellNanos;
+    /**
+     * How many words were found from each start cell, including words also found from other
+     * cells. Each cell is only written by the thread that searches it.
+     */
+    private final long[] startCellWords;
+    
+    /**
+     * Creates empty metrics for a search.
+     *
+     * @param cellCount how many cells are in the grid
+     * @param maxDepth  the longest path the search can make
+     */
+    SearchMetrics(int cellCount, int maxDepth) {
+        pruneHits = newAdders(maxDepth + 1);
+        deadEnds = newAdders(maxDepth + 1);
+        startCellNanos = new long[cellCount];
+        startCellWords = new long[cellCount];
+    }
+    
+    /**
+     * Helper to make an array of counters.
+     *
+     * @param length how many counters to make
+     * @return the counters
+     */
+    private static LongAdder[] newAdders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        Arrays.setAll(adders, i -> new LongAdder());
+        return adders;
+    }
+    
+    /**
+     * Helper to read an array of counters.
+     *
+     * @param adders the counters
+     * @return the count of each one, without trailing zeros
+     */
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = Arrays.stream(adders).mapToLong(LongAdder::sum).toArray();
+        int length = sums.length;
+        while (length > 0 && sums[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(sums, length);
+    }
+    
+    /**
+     * Makes a counter for one thread of the search.
+     *
+     * @return the counter
+     */
+    Counter counter() {
+        return new Counter(pruneHits.length);
+    }
+    
+    /**
+     * Gets how many cells were added to a path.
+     *
+     * @return the number of nodes expanded
+     */
+    public long nodesExpanded() {
+        return nodesExpanded.sum();
+    }
+    
+    /**
+     * Gets how many times the prefix index was asked for a child node.
+     *
+     * @return the number of prefix probes
+     */
+    public long prefixProbes() {
+        return prefixProbes.sum();
+    }
+    
+    /**
+     * Gets how many prefix probes found no word starting with the path.
+     *
+     * @return the total number of prune hits
+     */
+    public long pruneHits() {
+        return Arrays.stream(pruneHits).mapToLong(LongAdder::sum).sum();
+    }
+    
+    /**
+     * Gets the share of prefix probes that found no word starting with the path.
+     *
+     * @return the prune rate, from 0 to 1
+     */
+    public double pruneRate() {
+        long probes = prefixProbes();
+        return probes == 0 ? 0 : (double) pruneHits() / probes;
+    }
+    
+    /**
+     * Gets how many prefix probes found no word starting with the path, by depth.
+     *
+     * @return the prune hits, indexed by the depth of the rejected path
+     */
+    public long[] pruneHitsByDepth() {
+        return sums(pruneHits);
+    }
+    
+    /**
+     * Gets how many paths ended without being extended by any neighbour, by depth.
+     *
+     * @return the dead ends, indexed by the depth of the path
+     */
+    public long[] deadEndsByDepth() {
+        return sums(deadEnds);
+    }
+    
+    /**
+     * Gets how long searching from a start cell took.
+     *
+     * @param cell the id of the start cell
+     * @return the time spent searching from the cell
+     */
+    public Duration startCellTime(int cell) {
+        return Duration.ofNanos(startCellNanos[cell]);
+    }
+    
+    /**
+     * Gets how many words were found from a start cell, including words also found from other
+     * cells.
+     *
+     * @param cell the id of the start cell
+     * @return the number of words found
+     */
+    public long startCellWords(int cell) {
+        return startCellWords[cell];
+    }
+    
+    /**
+     * Gets how many start cells the grid has.
+     *
+     * @return the number of cells
+     */
+    public int cellCount() {
+        return startCellNanos.length;
+    }
+    
+    /**
+     * Lists everything that was counted, a line per metric and a line per start cell.
+     *
+     * @param cols how many columns the grid has, to show start cells as row and column
+     * @return the report
+     */
+    public String report(int cols) {
+        StringBuilder report = new StringBuilder()
+                .append("Nodes expanded: ").append(nodesExpanded()).append('\n')
+                .append("Prefix probes: ").append(prefixProbes()).append('\n')
+                .append("Prune hits: ").append(pruneHits())
+                .append(String.format(" (%.1f%%)", pruneRate() * 100)).append('\n')
+                .append("Prune hits by depth: ").append(Arrays.toString(pruneHitsByDepth()))
+                .append('\n')
+                .append("Dead ends by depth: ").append(Arrays.toString(deadEndsByDepth()))
+                .append('\n');
+        for (int cell = 0; cell < cellCount(); cell++) {
+            report.append("Start (").append(cell / cols).append(", ").append(cell % cols)
+                    .append("): ").append(startCellWords(cell)).append(" words in ")
+                    .append(String.format("%.6f", startCellNanos[cell] / 1e9))
+                    .append(" seconds\n");
+        }
+        return report.toString();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Nodes: %d, Probes: %d, Pruned: %.1f%%", nodesExpanded(),
+                prefixProbes(), pruneRate() * 100);
+    }
+    
+    /**
+     * Counts for one thread, added to the totals after each start cell.
+     */
+    final class Counter {
+        /**
+         * Prune hits by depth since the last start cell.
+         */
+        private final long[] prunes;
+        /**
+         * Dead ends by depth since the last start cell.
+         */
+        private final long[] ends;
+        /**
+         * If the path at each depth has been extended by any neighbour.
+         */
+        private final boolean[] extended;
+        /**
+         * Nodes expanded since the last start cell.
+         */
+        private long nodes;
+        /**
+         * Prefix probes since the last start cell.
+         */
+        private long probes;
+        /**
+         * Words found since the last start cell.
+         */
+        private long words;
+        /**
+         * When the current start cell's search started, from System.nanoTime().
+         */
+        private long startTime;
+        
+        /**
+         * Creates an empty counter.
+         *
+         * @param depths how many depths to count, including depth 0
+         */
+        private Counter(int depths) {
+            prunes = new long[depths];
+            ends = new long[depths];
+            extended = new boolean[depths];
+        }
+        
+        /**
+         * Starts timing a start cell.
+         */
+        void start() {
+            startTime = System.nanoTime();
+        }
+        
+        /**
+         * Counts a prefix probe that rejected a path.
+         *
+         * @param depth the depth of the rejected path
+         */
+        void pruned(int depth) {
+            probes++;
+            prunes[depth]++;
+        }
+        
+        /**
+         * Counts a prefix probe that extended a path.
+         *
+         * @param depth the depth of the extended path
+         */
+        void expanded(int depth) {
+            probes++;
+            nodes++;
+            extended[depth - 1] = true;
+            extended[depth] = false;
+        }
+        
+        /**
+         * Counts a word being found.
+         */
+        void found() {
+            words++;
+        }
+        
+        /**
+         * Counts a path being popped, as a dead end if it was never extended.
+         *
+         * @param depth the depth of the popped path
+         */
+        void popped(int depth) {
+            if (!extended[depth]) {
+                ends[depth]++;
+            }
+        }
+        
+        /**
+         * Adds this counter to the totals and resets it.
+         *
+         * @param cell the id of the start cell that was searched
+         */
+        void finish(int cell) {
+            startCellNanos[cell] += System.nanoTime() - startTime;
+            startCellWords[cell] += words;
+            nodesExpanded.add(nodes);
+            prefixProbes.add(probes);
+            for (int depth = 0; depth < prunes.length; depth++) {
+                if (prunes[depth] != 0) {
+                    pruneHits[depth].add(prunes[depth]);
+                    prunes[depth] = 0;
+                }
+                if (ends[depth] != 0) {
+                    deadEnds[depth].add(ends[depth]);
+                    ends[depth] = 0;
+                }
+            }
+            nodes = 0;
+            probes = 0;
+            words = 0;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Solves many grids against one dictionary.
+ *
+ * <p>
+ * A Solver is built once and is safe to share between threads. Each grid is searched on a single
+ * thread, so batches get their parallelism from solving different grids at the same time rather
+ * than splitting up one grid.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class Solver {
+    /**
+     * The dictionary to search with.
+     */
+    private final PrefixIndex index;
+    /**
+     * The rule for which cells a word can move between.
+     */
+    private final NeighbourRule rule;
+    /**
+     * Neighbour tables for each grid size seen so far, keyed by rows in the high half and columns
+     * in the low half.
+     */
+    private final Map<Long, Adjacency> adjacencies = new ConcurrentHashMap<>();
+    
+    /**
+     * Creates a solver.
+     *
+     * @param index the dictionary to search with
+     * @param rule  the rule for which cells a word can move between
+     */
+    public Solver(PrefixIndex index, NeighbourRule rule) {
+        this.index = index;
+        this.rule = rule;
+    }
+    
+    /**
+     * Creates a solver with a dictionary loaded from a file.
+     *
+     * @param path the path of the file with words
+     * @param rule the rule for which cells a word can move between
+     * @return the solver
+     * @throws IOException if there was a problem reading the dictionary
+     */
+    public static Solver load(Path path, NeighbourRule rule) throws IOException {
+        return new Solver(ArrayTrie.load(path), rule);
+    }
+    
+    /**
+     * Finds every word in a grid.
+     *
+     * @param grid the grid to search
+     * @return the found words
+     */
+    public Set<String> solve(Grid grid) {
+        Adjacency adjacency = adjacency(grid);
+        PrefixIndex searchIndex = TileIndex.of(index, grid.tiles());
+        Set<String> words;
+        if (adjacency.hasMasks()) {
+            BitboardSearch search = new BitboardSearch(searchIndex, grid.letters(), adjacency);
+            for (int cell = 0; cell < grid.cellCount(); cell++) {
+                search.search(cell);
+            }
+            words = search.words();
+        } else {
+            StackSearch search = new StackSearch(searchIndex, grid.letters(), adjacency);
+            for (int cell = 0; cell < grid.cellCount(); cell++) {
+                search.search(cell);
+            }
+            words = search.words();
+        }
+        return searchIndex instanceof TileIndex tileIndex ?
+                tileIndex.expand(words, grid.letters(), adjacency) : words;
+    }
+    
+    /**
+     * Finds every word in a grid along with a path that spells it.
+     *
+     * @param grid     the grid to search
+     * @param listener told about each word, once, with the first path found for it
+     */
+    public void solve(Grid grid, WordListener listener) {
+        Adjacency adjacency = adjacency(grid);
+        PrefixIndex searchIndex = TileIndex.of(index, grid.tiles());
+        WordListener searchListener = listener;
+        if (searchIndex instanceof TileIndex tileIndex) {
+            searchListener = tileIndex.expanding(listener, new HashSet<>());
+        }
+        StackSearch search = new StackSearch(searchIndex, grid.letters(), adjacency,
+                new HashSet<>(), searchListener, SearchControl.unlimited(), null);
+        for (int cell = 0; cell < grid.cellCount(); cell++) {
+            search.search(cell);
+        }
+        if (searchIndex instanceof TileIndex tileIndex) {
+            tileIndex.shortWords(grid.letters(), adjacency, searchListener);
+        }
+    }
+    
+    /**
+     * Solves a stream of grids in parallel. The results are in the same order as the grids.
+     *
+     * @param grids the grids to search
+     * @return the found words for each grid
+     */
+    public Stream<Set<String>> solveAll(Stream<Grid> grids) {
+        return grids.parallel().map(this::solve);
+    }
+    
+    /**
+     * Solves grids from an iterator in parallel. The results are in the same order as the grids.
+     *
+     * @param grids the grids to search
+     * @return the found words for each grid
+     */
+    public Stream<Set<String>> solveAll(Iterator<Grid> grids) {
+        return solveAll(StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(grids, Spliterator.ORDERED), false));
+    }
+    
+    /**
+     * Gets the dictionary this solver searches with.
+     *
+     * @return the dictionary
+     */
+    public PrefixIndex index() {
+        return index;
+    }
+    
+    /**
+     * Gets the rule this solver moves between cells with.
+     *
+     * @return the neighbour rule
+     */
+    public NeighbourRule rule() {
+        return rule;
+    }
+    
+    /**
+     * Gets the neighbour table for a grid's size, building it the first time that size is seen.
+     *
+     * @param grid the grid to get the neighbour table for
+     * @return the neighbour table
+     */
+    private Adjacency adjacency(Grid grid) {
+        return adjacencies.computeIfAbsent((long) grid.rows() << Integer.SIZE | grid.cols(),
+                key -> Adjacency.of(grid.rows(), grid.cols(), rule));
+    }
+}
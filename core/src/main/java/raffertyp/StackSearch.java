@@ -0,0 +1,344 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Depth first search of a grid using an explicit stack instead of recursion.
+ *
+ * <p>
+ * All of the buffers are made once and reused for every start cell, so searching only allocates
+ * the Strings for found words. An instance is not thread safe, parallel searches should each use
+ * their own instance and {@link #merge(StackSearch)} them afterwards.
+ * </p>
+ *
+ * <p>
+ * A streaming search instead reports words to a {@link WordListener} as they are found, using a
+ * set shared between threads so each word is only reported once, and checks its
+ * {@link SearchControl} as it goes so it can stop early.
+ * </p>
+ *
+ * <p>
+ * A search can also keep the first path found for each word as a {@link WordPath}, encoded
+ * straight from the path buffer. Searches that don't keep paths never build them.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+final class StackSearch {
+    /**
+     * How often, in cells pushed, a streaming search checks if it should stop, minus one.
+     */
+    private static final int STOP_CHECK_MASK = 1023;
+    /**
+     * The dictionary to search with.
+     */
+    private final PrefixIndex index;
+    /**
+     * Letter of each cell, indexed by cell id.
+     */
+    private final char[] letters;
+    /**
+     * The neighbours of each cell.
+     */
+    private final Adjacency adjacency;
+    /**
+     * Letters of the current path.
+     */
+    private final char[] word;
+    /**
+     * Cell id at each depth of the current path.
+     */
+    private final int[] cells;
+    /**
+     * Prefix index node at each depth of the current path.
+     */
+    private final int[] nodes;
+    /**
+     * Index in the adjacency table of the next neighbour to try at each depth of the current path.
+     */
+    private final int[] next;
+    /**
+     * Bit set of the cells in the current path.
+     */
+    private final long[] visited;
+    /**
+     * Words found by this search.
+     */
+    private final Set<String> words;
+    /**
+     * The first path found for each word, null if paths aren't kept.
+     */
+    private final Map<String, WordPath> paths;
+    /**
+     * Told about each word as it is found, null if words are collected instead.
+     */
+    private final WordListener listener;
+    /**
+     * Stops a streaming search, null if words are collected instead.
+     */
+    private final SearchControl control;
+    /**
+     * Counts what this search does, null if it isn't being measured.
+     */
+    private final SearchMetrics.Counter counter;
+    /**
+     * How many cells have been pushed, used to space out stop checks.
+     */
+    private int pushes;
+    
+    /**
+     * Creates a search over a grid that collects the words it finds.
+     *
+     * @param index     the dictionary to search with
+     * @param letters   letter of each cell, indexed by cell id
+     * @param adjacency the neighbours of each cell
+     */
+    StackSearch(PrefixIndex index, char[] letters, Adjacency adjacency) {
+        this(index, letters, adjacency, null);
+    }
+    
+    /**
+     * Creates a search over a grid that collects the words it finds and counts what it does.
+     *
+     * @param index     the dictionary to search with
+     * @param letters   letter of each cell, indexed by cell id
+     * @param adjacency the neighbours of each cell
+     * @param metrics   where to count what the search does, or null to not count
+     */
+    StackSearch(PrefixIndex index, char[] letters, Adjacency adjacency, SearchMetrics metrics) {
+        this(index, letters, adjacency, new LinkedHashSet<>(), null, null, metrics, null);
+    }
+    
+    /**
+     * Creates a search over a grid that collects the words it finds along with a path for each.
+     *
+     * @param index     the dictionary to search with
+     * @param letters   letter of each cell, indexed by cell id
+     * @param adjacency the neighbours of each cell
+     * @param metrics   where to count what the search does, or null to not count
+     * @return the search
+     */
+    static StackSearch withPaths(PrefixIndex index, char[] letters, Adjacency adjacency,
+                                 SearchMetrics metrics) {
+        return new StackSearch(index, letters, adjacency, new LinkedHashSet<>(), null, null,
+                metrics, new LinkedHashMap<>());
+    }
+    
+    /**
+     * Creates a search over a grid that reports the words it finds.
+     *
+     * @param index     the dictionary to search with
+     * @param letters   letter of each cell, indexed by cell id
+     * @param adjacency the neighbours of each cell
+     * @param reported  words already reported, shared with the other searches of the same grid
+     * @param listener  told about each word as it is found
+     * @param control   stops the search
+     * @param metrics   where to count what the search does, or null to not count
+     */
+    StackSearch(PrefixIndex index, char[] letters, Adjacency adjacency, Set<String> reported,
+                WordListener listener, SearchControl control, SearchMetrics metrics) {
+        this(index, letters, adjacency, reported, listener, control, metrics, null);
+    }
+    
+    /**
+     * Creates a search over a grid.
+     *
+     * @param index     the dictionary to search with
+     * @param letters   letter of each cell, indexed by cell id
+     * @param adjacency the neighbours of each cell
+     * @param reported  where found words are put
+     * @param listener  told about each word as it is found, or null to only collect them
+     * @param control   stops the search, or null if it always runs to the end
+     * @param metrics   where to count what the search does, or null to not count
+     * @param paths     where the first path found for each word is put, or null to not keep them
+     */
+    private StackSearch(PrefixIndex index, char[] letters, Adjacency adjacency,
+                        Set<String> reported, WordListener listener, SearchControl control,
+                        SearchMetrics metrics, Map<String, WordPath> paths) {
+        this.index = index;
+        this.letters = letters;
+        this.adjacency = adjacency;
+        words = reported;
+        this.listener = listener;
+        this.control = control;
+        this.paths = paths;
+        counter = metrics == null ? null : metrics.counter();
+        int maxDepth = Math.max(1, Math.min(index.longestWordLength(), letters.length));
+        word = new char[maxDepth];
+        cells = new int[maxDepth];
+        nodes = new int[maxDepth];
+        next = new int[maxDepth];
+        visited = new long[(letters.length + Long.SIZE - 1) / Long.SIZE];
+    }
+    
+    /**
+     * Finds every word whose path starts at a cell.
+     *
+     * @param start the id of the start cell
+     */
+    void search(int start) {
+        if (control != null && control.isStopped()) {
+            return;
+        }
+        if (counter != null) {
+            counter.start();
+        }
+        int node = index.child(index.root(), letters[start]);
+        if (node != PrefixIndex.NONE) {
+            if (counter != null) {
+                counter.expanded(1);
+            }
+            push(0, start, node);
+            run(0);
+        } else if (counter != null) {
+            counter.pruned(1);
+        }
+        if (counter != null) {
+            counter.finish(start);
+        }
+    }
+    
+    /**
+     * Finds every word whose path starts with a given path. Words ended by the cells before the
+     * last one in the given path are not recorded, they belong to whoever searched those paths.
+     *
+     * @param path      the ids of the cells in the starting path
+     * @param pathNodes the prefix index node for each step of the starting path
+     */
+    void search(int[] path, int[] pathNodes) {
+        if (control != null && control.isStopped()) {
+            return;
+        }
+        int last = path.length - 1;
+        for (int depth = 0; depth < last; depth++) {
+            enter(depth, path[depth], pathNodes[depth]);
+        }
+        push(last, path[last], pathNodes[last]);
+        run(last);
+        for (int depth = 0; depth < last; depth++) {
+            visited[path[depth] >>> 6] &= ~(1L << path[depth]);
+        }
+    }
+    
+    /**
+     * Searches below the current path until it is popped back past a depth.
+     *
+     * @param base the depth of the cell the search started from
+     */
+    private void run(int base) {
+        int depth = base;
+        while (depth >= base) {
+            int cell = cells[depth];
+            if (next[depth] == adjacency.end(cell) || depth + 1 == word.length) {
+                visited[cell >>> 6] &= ~(1L << cell);
+                if (counter != null) {
+                    counter.popped(depth + 1);
+                }
+                depth--;
+                continue;
+            }
+            int neighbour = adjacency.neighbour(next[depth]++);
+            if ((visited[neighbour >>> 6] & 1L << neighbour) != 0) {
+                continue;
+            }
+            int child = index.child(nodes[depth], letters[neighbour]);
+            if (counter != null) {
+                if (child == PrefixIndex.NONE) {
+                    counter.pruned(depth + 2);
+                } else {
+                    counter.expanded(depth + 2);
+                }
+            }
+            if (child != PrefixIndex.NONE) {
+                depth++;
+                push(depth, neighbour, child);
+                if (control != null && (++pushes & STOP_CHECK_MASK) == 0 &&
+                        control.isStopped()) {
+                    for (; depth >= base; depth--) {
+                        visited[cells[depth] >>> 6] &= ~(1L << cells[depth]);
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Adds a cell to the current path and records the word it ends, if any.
+     *
+     * @param depth the depth to put the cell at
+     * @param cell  the id of the cell
+     * @param node  the prefix index node for the path including the cell
+     */
+    private void push(int depth, int cell, int node) {
+        enter(depth, cell, node);
+        if (depth + 1 >= GameBoard.MIN_WORD_LENGTH && index.isWord(node)) {
+            if (counter != null) {
+                counter.found();
+            }
+            String found = new String(word, 0, depth + 1);
+            if (words.add(found)) {
+                if (paths != null) {
+                    paths.put(found, WordPath.of(found, cells, depth + 1));
+                } else if (listener != null) {
+                    listener.wordFound(found, Arrays.copyOf(cells, depth + 1));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Adds a cell to the current path without recording a word.
+     *
+     * @param depth the depth to put the cell at
+     * @param cell  the id of the cell
+     * @param node  the prefix index node for the path including the cell
+     */
+    private void enter(int depth, int cell, int node) {
+        cells[depth] = cell;
+        nodes[depth] = node;
+        next[depth] = adjacency.start(cell);
+        word[depth] = letters[cell];
+        visited[cell >>> 6] |= 1L << cell;
+    }
+    
+    /**
+     * Adds the words found by another search to this one.
+     *
+     * @param other the other search
+     */
+    void merge(StackSearch other) {
+        words.addAll(other.words);
+        if (paths != null) {
+            other.paths.forEach(paths::putIfAbsent);
+        }
+    }
+    
+    /**
+     * Gets the words found so far.
+     *
+     * @return the found words
+     */
+    Set<String> words() {
+        return words;
+    }
+    
+    /**
+     * Gets the first path found for each word so far.
+     *
+     * @return the found paths, keyed by word, or null if this search doesn't keep paths
+     */
+    Map<String, WordPath> paths() {
+        return paths;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.stream.IntStream;
+
+/**
+ * The built-in rules for moving between cells. Each rule has a short name, like 8way, that the
+ * command line programs and the server take to pick it.
+ *
+ * @author Patrick Rafferty
+ */
+public enum StandardRule implements NeighbourRule {
+    /**
+     * Up, down, left and right.
+     */
+    FOUR_WAY("4way", new int[] {-1, 1, 0, 0}, new int[] {0, 0, -1, 1}),
+    /**
+     * Up, down, left, right and the diagonals.
+     */
+    EIGHT_WAY("8way", new int[] {-1, 1, 0, 0, -1, -1, 1, 1},
+            new int[] {0, 0, -1, 1, -1, 1, -1, 1}),
+    /**
+     * Hexagonal cells where every odd row is shifted half a cell to the right.
+     */
+    HEX("hex", new int[] {0, 0, -1, -1, 1, 1}, new int[] {-1, 1, -1, 0, -1, 0}) {
+        @Override
+        public IntStream neighbours(int row, int col, int rows, int cols) {
+            // Odd rows are shifted right, so their diagonal neighbours are one column further
+            int shift = row % 2;
+            return IntStream.range(0, rowOffsets.length)
+                    .filter(i -> inBounds(row + rowOffsets[i],
+                            col + colOffsets[i] + (rowOffsets[i] == 0 ? 0 : shift), rows, cols))
+                    .map(i -> (row + rowOffsets[i]) * cols + col + colOffsets[i] +
+                            (rowOffsets[i] == 0 ? 0 : shift));
+        }
+    },
+    /**
+     * Eight way where the edges of the grid wrap around to the other side.
+     */
+    TOROIDAL("torus", new int[] {-1, 1, 0, 0, -1, -1, 1, 1},
+            new int[] {0, 0, -1, 1, -1, 1, -1, 1}) {
+        @Override
+        public IntStream neighbours(int row, int col, int rows, int cols) {
+            return IntStream.range(0, rowOffsets.length)
+                    .map(i -> Math.floorMod(row + rowOffsets[i], rows) * cols +
+                            Math.floorMod(col + colOffsets[i], cols));
+        }
+    },
+    /**
+     * The moves of a knight in chess.
+     */
+    KNIGHT("knight", new int[] {-2, -2, -1, -1, 1, 1, 2, 2},
+            new int[] {-1, 1, -2, 2, -2, 2, -1, 1});
+    
+    /**
+     * Short name the rule is picked by.
+     */
+    private final String ruleName;
+    /**
+     * Row offset of each move.
+     */
+    final int[] rowOffsets;
+    /**
+     * Column offset of each move.
+     */
+    final int[] colOffsets;
+    
+    /**
+     * Creates a rule from the moves it allows.
+     *
+     * @param ruleName   short name the rule is picked by
+     * @param rowOffsets row offset of each move
+     * @param colOffsets column offset of each move
+     */
+    StandardRule(String ruleName, int[] rowOffsets, int[] colOffsets) {
+        this.ruleName = ruleName;
+        this.rowOffsets = rowOffsets;
+        this.colOffsets = colOffsets;
+    }
+    
+    /**
+     * Gets the rule with a short name.
+     *
+     * @param ruleName the short name, like 4way, 8way, hex, torus or knight
+     * @return the rule
+     * @throws IllegalArgumentException if no rule has the name
+     */
+    public static StandardRule forName(String ruleName) {
+        for (StandardRule rule : values()) {
+            if (rule.ruleName.equals(ruleName)) {
+                return rule;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value: " + ruleName);
+    }
+    
+    /**
+     * Gets the short name the rule is picked by.
+     *
+     * @return the short name, like 8way
+     */
+    public String ruleName() {
+        return ruleName;
+    }
+    
+    /**
+     * Checks if a position is inside the grid.
+     *
+     * @param row  the row of the position
+     * @param col  the column of the position
+     * @param rows how many rows are in the grid
+     * @param cols how many columns are in the grid
+     * @return true if the position is a cell of the grid
+     */
+    static boolean inBounds(int row, int col, int rows, int cols) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+    
+    @Override
+    public IntStream neighbours(int row, int col, int rows, int cols) {
+        return IntStream.range(0, rowOffsets.length)
+                .filter(i -> inBounds(row + rowOffsets[i], col + colOffsets[i], rows, cols))
+                .map(i -> (row + rowOffsets[i]) * cols + col + colOffsets[i]);
+    }
+    
+    @Override
+    public boolean isSymmetric() {
+        // Rotating or reflecting hex cells moves the shift to different rows or the other side
+        return this != HEX;
+    }
+}
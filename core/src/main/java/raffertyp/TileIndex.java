@@ -0,0 +1,164 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Lets a search walk multi-letter tiles one cell at a time, by following every letter of a tile
+ * when {@link #child(int, char)} is given its code.
+ *
+ * <p>
+ * Searches don't know about tiles, so the words they find hold tile codes and count each tile as
+ * one letter. {@link #expand(Collection, char[], Adjacency)} spells found words out, and also finds
+ * the words of one or two cells that are long enough once their tiles are spelled out, which
+ * searches skip as too short. Grids without tiles are searched with the dictionary itself, so they
+ * don't pay for any of this.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+final class TileIndex implements PrefixIndex {
+    /**
+     * The dictionary being searched.
+     */
+    private final PrefixIndex index;
+    /**
+     * The tiles of the grid being searched.
+     */
+    private final TileTable tiles;
+    /**
+     * The letters of each tile, indexed by code minus {@link TileTable#FIRST_CODE}.
+     */
+    private final char[][] tileLetters;
+    
+    /**
+     * Creates an index that follows a grid's tiles.
+     *
+     * @param index the dictionary being searched
+     * @param tiles the tiles of the grid being searched
+     */
+    TileIndex(PrefixIndex index, TileTable tiles) {
+        this.index = index;
+        this.tiles = tiles;
+        tileLetters = tiles.tiles().stream().map(String::toCharArray).toArray(char[][]::new);
+    }
+    
+    /**
+     * Gets the index to search a grid with.
+     *
+     * @param index the dictionary being searched
+     * @param tiles the tiles of the grid
+     * @return the dictionary if the grid has no tiles, otherwise an index that follows them
+     */
+    static PrefixIndex of(PrefixIndex index, TileTable tiles) {
+        return tiles.isEmpty() ? index : new TileIndex(index, tiles);
+    }
+    
+    @Override
+    public int root() {
+        return index.root();
+    }
+    
+    @Override
+    public int child(int node, char letter) {
+        int tile = letter - TileTable.FIRST_CODE;
+        if (tile < 0 || tile >= tileLetters.length) {
+            return index.child(node, letter);
+        }
+        for (char tileLetter : tileLetters[tile]) {
+            node = index.child(node, tileLetter);
+            if (node == NONE) {
+                return NONE;
+            }
+        }
+        return node;
+    }
+    
+    @Override
+    public boolean isWord(int node) {
+        return index.isWord(node);
+    }
+    
+    @Override
+    public int wordCount() {
+        return index.wordCount();
+    }
+    
+    @Override
+    public int longestWordLength() {
+        return index.longestWordLength();
+    }
+    
+    /**
+     * Spells out the words a search found, and adds the short words searches skip.
+     *
+     * @param found     the words found by searching with this index
+     * @param letters   letter of each cell, indexed by cell id
+     * @param adjacency the neighbours of each cell
+     * @return the found words spelled out
+     */
+    Set<String> expand(Collection<String> found, char[] letters, Adjacency adjacency) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : found) {
+            words.add(tiles.expand(word));
+        }
+        shortWords(letters, adjacency, (word, path) -> words.add(word));
+        return words;
+    }
+    
+    /**
+     * Finds words spelled by one or two cells that are long enough to count once their tiles are
+     * spelled out.
+     *
+     * @param letters   letter of each cell, indexed by cell id
+     * @param adjacency the neighbours of each cell
+     * @param listener  told about each word and its path, possibly more than once
+     */
+    void shortWords(char[] letters, Adjacency adjacency, WordListener listener) {
+        for (int cell = 0; cell < letters.length; cell++) {
+            int node = child(root(), letters[cell]);
+            if (node == NONE) {
+                continue;
+            }
+            if (isWord(node) &&
+                    tiles.text(letters[cell]).length() >= GameBoard.MIN_WORD_LENGTH) {
+                listener.wordFound(tiles.text(letters[cell]), new int[]{cell});
+            }
+            for (int i = adjacency.start(cell); i < adjacency.end(cell); i++) {
+                int neighbour = adjacency.neighbour(i);
+                int child = child(node, letters[neighbour]);
+                if (child != NONE && isWord(child)) {
+                    String word = tiles.text(letters[cell]) + tiles.text(letters[neighbour]);
+                    if (word.length() >= GameBoard.MIN_WORD_LENGTH) {
+                        listener.wordFound(word, new int[]{cell, neighbour});
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Makes a listener that spells out words before passing them on, and only passes each word
+     * on once.
+     *
+     * @param listener the listener to pass words on to
+     * @param reported the spelled out words already passed on, shared between threads
+     * @return the listener for searches to report to
+     */
+    WordListener expanding(WordListener listener, Set<String> reported) {
+        return (word, path) -> {
+            String expanded = tiles.expand(word);
+            if (reported.add(expanded)) {
+                listener.wordFound(expanded, path);
+            }
+        };
+    }
+}
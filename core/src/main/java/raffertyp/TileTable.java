@@ -0,0 +1,163 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The multi-letter tiles of a grid, like the Qu die in Boggle.
+ *
+ * <p>
+ * A grid keeps one char per cell, so each tile is given a code from the Unicode private use area
+ * and cells holding the tile hold its code. Codes are handed out to the tiles in sorted order, so
+ * grids with the same tiles use the same codes. Letters below {@link #FIRST_CODE} are always plain
+ * letters, which lets searches skip the table with a single comparison.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class TileTable {
+    /**
+     * The code of the first tile in a table.
+     */
+    static final char FIRST_CODE = '\uE000';
+    /**
+     * Most tiles a table can hold, the size of the private use area.
+     */
+    private static final int MAX_TILES = '\uF8FF' - FIRST_CODE + 1;
+    /**
+     * Table for grids with no multi-letter tiles.
+     */
+    public static final TileTable EMPTY = new TileTable(new String[0]);
+    /**
+     * The letters of each tile, indexed by code minus {@link #FIRST_CODE}.
+     */
+    private final String[] tiles;
+    
+    /**
+     * Creates a table that takes ownership of a sorted array of tiles.
+     *
+     * @param tiles the tiles, sorted with no repeats
+     */
+    private TileTable(String[] tiles) {
+        this.tiles = tiles;
+    }
+    
+    /**
+     * Creates a table of tiles. Tiles are lowercased, repeats are ignored.
+     *
+     * @param tiles the letters on each tile
+     * @return the table
+     * @throws IllegalArgumentException if a tile has fewer than 2 letters, or holds a letter from
+     *                                  the private use area, or there are too many tiles
+     */
+    public static TileTable of(Collection<String> tiles) {
+        String[] sorted = tiles.stream().map(tile -> tile.toLowerCase(Locale.ROOT)).distinct()
+                .sorted().toArray(String[]::new);
+        if (sorted.length > MAX_TILES) {
+            throw new IllegalArgumentException("Too many tiles: " + sorted.length);
+        }
+        for (String tile : sorted) {
+            if (tile.length() < 2 || tile.chars().anyMatch(letter -> letter >= FIRST_CODE)) {
+                throw new IllegalArgumentException("Not a multi-letter tile: " + tile);
+            }
+        }
+        return sorted.length == 0 ? EMPTY : new TileTable(sorted);
+    }
+    
+    /**
+     * Gets the code that stands for a tile in a grid's letters.
+     *
+     * @param tile the letters on the tile
+     * @return the code for the tile
+     * @throws IllegalArgumentException if the tile isn't in this table
+     */
+    public char code(String tile) {
+        int index = Arrays.binarySearch(tiles, tile.toLowerCase(Locale.ROOT));
+        if (index < 0) {
+            throw new IllegalArgumentException("Tile isn't in the table: " + tile);
+        }
+        return (char) (FIRST_CODE + index);
+    }
+    
+    /**
+     * Checks if a grid letter is the code of one of this table's tiles.
+     *
+     * @param letter the letter of a cell
+     * @return true if the letter stands for a multi-letter tile
+     */
+    public boolean isTile(char letter) {
+        return letter >= FIRST_CODE && letter - FIRST_CODE < tiles.length;
+    }
+    
+    /**
+     * Gets the letters a cell holds.
+     *
+     * @param letter the letter of a cell
+     * @return the letters of the tile if the letter is a tile's code, otherwise just the letter
+     */
+    public String text(char letter) {
+        return isTile(letter) ? tiles[letter - FIRST_CODE] : String.valueOf(letter);
+    }
+    
+    /**
+     * Replaces the code of each tile in a word with the tile's letters.
+     *
+     * @param word a word spelled with a grid's letters
+     * @return the word spelled out in letters
+     */
+    public String expand(CharSequence word) {
+        StringBuilder expanded = null;
+        for (int i = 0; i < word.length(); i++) {
+            char letter = word.charAt(i);
+            if (isTile(letter) && expanded == null) {
+                expanded = new StringBuilder(word.length() + 8).append(word, 0, i);
+            }
+            if (expanded != null) {
+                expanded.append(text(letter));
+            }
+        }
+        return expanded == null ? word.toString() : expanded.toString();
+    }
+    
+    /**
+     * Checks if this table has no tiles.
+     *
+     * @return true if there are no multi-letter tiles
+     */
+    public boolean isEmpty() {
+        return tiles.length == 0;
+    }
+    
+    /**
+     * Gets the tiles in this table, in code order.
+     *
+     * @return the letters on each tile
+     */
+    public List<String> tiles() {
+        return List.of(tiles);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof TileTable other && Arrays.equals(tiles, other.tiles);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(tiles);
+    }
+    
+    @Override
+    public String toString() {
+        return Arrays.toString(tiles);
+    }
+}
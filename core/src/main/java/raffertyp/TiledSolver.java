@@ -0,0 +1,176 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Finds every word in a {@link LargeGrid} by splitting it into square tiles and searching the
+ * tiles in parallel.
+ *
+ * <p>
+ * A word is found by the tile its path starts in. A path can only move so far from its start
+ * cell, the longest word's length less one times the furthest one move can go, so each tile is
+ * searched with a halo of that many cells around it copied out of the grid too. Paths start only
+ * in the tile itself but can run into the halo, so every word is found by at least one tile,
+ * and words found by more than one tile are only kept once when the tiles are merged. Only the
+ * tiles being searched are held in memory, so the memory a search takes depends on the tile size
+ * and the number of threads rather than on the size of the grid.
+ * </p>
+ *
+ * <p>
+ * Rules that wrap around the edges of the grid, like {@link StandardRule#TOROIDAL}, can't be
+ * split into tiles. Halos are widened so every tile copy starts on an even row, so rules like
+ * {@link StandardRule#HEX} that treat odd rows differently see the same neighbours.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class TiledSolver {
+    /**
+     * Size of a tile if none is given.
+     */
+    public static final int DEFAULT_TILE_SIZE = 128;
+    /**
+     * Size of the small grids used to work out how far a rule can move.
+     */
+    private static final int PROBE_SIZE = 9;
+    /**
+     * The dictionary to search with.
+     */
+    private final PrefixIndex index;
+    /**
+     * The rule for which cells a word can move between.
+     */
+    private final NeighbourRule rule;
+    /**
+     * How many cells around a tile are copied with it.
+     */
+    private final int halo;
+    /**
+     * Neighbour tables for each tile size seen so far, keyed by rows in the high half and columns
+     * in the low half.
+     */
+    private final Map<Long, Adjacency> adjacencies = new ConcurrentHashMap<>();
+    /**
+     * How many rows and columns each tile has, not counting its halo.
+     */
+    private int tileSize = DEFAULT_TILE_SIZE;
+    
+    /**
+     * Creates a solver.
+     *
+     * @param index the dictionary to search with
+     * @param rule  the rule for which cells a word can move between
+     * @throws IllegalArgumentException if the rule wraps around the edges of the grid
+     */
+    public TiledSolver(PrefixIndex index, NeighbourRule rule) {
+        int reach = reach(rule, PROBE_SIZE);
+        if (reach != reach(rule, PROBE_SIZE * 2 - 1)) {
+            throw new IllegalArgumentException("Rules that wrap around the grid can't be tiled");
+        }
+        this.index = index;
+        this.rule = rule;
+        halo = reach * Math.max(0, index.longestWordLength() - 1);
+    }
+    
+    /**
+     * Helper to work out the furthest a rule can move in one step, in rows or columns, by trying
+     * every cell of a small grid. A rule that wraps around moves further on a bigger grid.
+     *
+     * @param rule the rule
+     * @param size how many rows and columns the small grid has
+     * @return the most rows or columns one move can go
+     */
+    private static int reach(NeighbourRule rule, int size) {
+        int reach = 0;
+        for (int cell = 0; cell < size * size; cell++) {
+            int row = cell / size;
+            int col = cell % size;
+            reach = Math.max(reach, rule.neighbours(row, col, size, size)
+                    .map(neighbour -> Math.max(Math.abs(neighbour / size - row),
+                            Math.abs(neighbour % size - col)))
+                    .max().orElse(0));
+        }
+        return reach;
+    }
+    
+    /**
+     * Sets how many rows and columns each tile has, not counting its halo. Bigger tiles copy
+     * fewer halo cells but hold more in memory at once. Defaults to
+     * {@value #DEFAULT_TILE_SIZE}.
+     *
+     * @param tileSize the size of a tile
+     * @throws IllegalArgumentException if the size isn't positive
+     */
+    public void setTileSize(int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tiles must be at least 1 cell: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+    
+    /**
+     * Gets how many cells around each tile are searched with it.
+     *
+     * @return the width of the halo
+     */
+    public int halo() {
+        return halo;
+    }
+    
+    /**
+     * Finds every word in a grid.
+     *
+     * @param grid the grid to search
+     * @return the found words, in the order of the tiles they were first found in
+     */
+    public Set<String> solve(LargeGrid grid) {
+        int tileRows = (grid.rows() + tileSize - 1) / tileSize;
+        int tileCols = (grid.cols() + tileSize - 1) / tileSize;
+        return IntStream.range(0, tileRows * tileCols).parallel()
+                .mapToObj(tile -> search(grid, tile / tileCols * tileSize,
+                        tile % tileCols * tileSize))
+                .collect(LinkedHashSet::new, Set::addAll, Set::addAll);
+    }
+    
+    /**
+     * Helper to find the words whose paths start in one tile.
+     *
+     * @param grid the grid to search
+     * @param row  the first row of the tile
+     * @param col  the first column of the tile
+     * @return the found words
+     */
+    private Set<String> search(LargeGrid grid, int row, int col) {
+        int top = Math.max(0, row - halo);
+        top -= top % 2;
+        int left = Math.max(0, col - halo);
+        int bottom = (int) Math.min(grid.rows(), (long) row + tileSize + halo);
+        int right = (int) Math.min(grid.cols(), (long) col + tileSize + halo);
+        int height = bottom - top;
+        int width = right - left;
+        char[] letters = new char[height * width];
+        grid.copy(top, left, letters, width);
+        Adjacency adjacency = adjacencies.computeIfAbsent((long) height << Integer.SIZE | width,
+                key -> Adjacency.of(height, width, rule));
+        StackSearch search = new StackSearch(index, letters, adjacency);
+        int tileBottom = (int) Math.min(grid.rows(), (long) row + tileSize);
+        int tileRight = (int) Math.min(grid.cols(), (long) col + tileSize);
+        for (int r = row; r < tileBottom; r++) {
+            for (int c = col; c < tileRight; c++) {
+                search.search((r - top) * width + c - left);
+            }
+        }
+        return search.words();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * How the words on a board changed between two calls to
+ * {@link GameBoard#resolve(NeighbourRule)}.
+ *
+ * @param added   words on the board now that weren't before, with a path for each
+ * @param removed words that were on the board before and aren't now
+ * @param moved   words still on the board with a new path, because their old path went through
+ *                a changed cell or the rule changed
+ * @param full    true if the board had no earlier words to compare with, so added holds every
+ *                word on the board
+ * @author Patrick Rafferty
+ */
+public record WordDelta(Map<String, WordPath> added, Set<String> removed,
+                        Map<String, WordPath> moved, boolean full) {
+    /**
+     * Checks if no words were added or removed.
+     *
+     * @return true if the board has the same words as before
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+/**
+ * Told about each word as soon as a search finds it.
+ *
+ * <p>
+ * Searches run on several threads, so a listener can be called from more than one thread at the
+ * same time. Each word is only reported once, with the first path found for it.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+@FunctionalInterface
+public interface WordListener {
+    /**
+     * Called when a word is found.
+     *
+     * @param word the word
+     * @param path the ids of the cells spelling the word, in order. Cells are identified by
+     *             row * cols + col
+     */
+    void wordFound(String word, int[] path);
+}
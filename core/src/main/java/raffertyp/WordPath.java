@@ -0,0 +1,201 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.Arrays;
+
+/**
+ * A word found in a grid along with the path of cells that spells it.
+ *
+ * <p>
+ * The path is stored as bytes instead of a list of cells. Each step is the difference from the
+ * previous cell id, zigzag encoded so small negative steps stay small, written 7 bits to a byte
+ * with the top bit set on every byte but the last of each step. Neighbouring cells are close
+ * together, so a step takes a single byte on any grid narrower than about 60 columns, and a path
+ * costs about as many bytes as its word has letters.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class WordPath {
+    /**
+     * The word the path spells.
+     */
+    private final String word;
+    /**
+     * The encoded steps of the path.
+     */
+    private final byte[] steps;
+    /**
+     * How many cells are in the path.
+     */
+    private final int length;
+    
+    /**
+     * Creates a path from its encoded steps.
+     *
+     * @param word   the word the path spells
+     * @param steps  the encoded steps
+     * @param length how many cells are in the path
+     */
+    private WordPath(String word, byte[] steps, int length) {
+        this.word = word;
+        this.steps = steps;
+        this.length = length;
+    }
+    
+    /**
+     * Creates a path for a word.
+     *
+     * @param word  the word the path spells
+     * @param cells the ids of the cells spelling the word, in order. Cells are identified by
+     *              row * cols + col
+     * @return the path
+     * @throws IllegalArgumentException if a cell id is negative
+     */
+    public static WordPath of(String word, int... cells) {
+        return of(word, cells, cells.length);
+    }
+    
+    /**
+     * Creates a path from the start of a search's path buffer, so searches don't have to copy it
+     * first.
+     *
+     * @param word   the word the path spells
+     * @param cells  the ids of the cells spelling the word, in order
+     * @param length how many cells at the start of the array are in the path
+     * @return the path
+     * @throws IllegalArgumentException if a cell id is negative
+     */
+    static WordPath of(String word, int[] cells, int length) {
+        int size = 0;
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            if (cells[i] < 0) {
+                throw new IllegalArgumentException("Cell ids can't be negative: " + cells[i]);
+            }
+            size += encodedSize(zigzag(cells[i] - previous));
+            previous = cells[i];
+        }
+        byte[] steps = new byte[size];
+        int position = 0;
+        previous = 0;
+        for (int i = 0; i < length; i++) {
+            int step = zigzag(cells[i] - previous);
+            while ((step & ~0x7F) != 0) {
+                steps[position++] = (byte) (step & 0x7F | 0x80);
+                step >>>= 7;
+            }
+            steps[position++] = (byte) step;
+            previous = cells[i];
+        }
+        return new WordPath(word, steps, length);
+    }
+    
+    /**
+     * Helper to zigzag encode a step, so steps back are small positive numbers too.
+     *
+     * @param step the difference between two cell ids
+     * @return the encoded step
+     */
+    private static int zigzag(int step) {
+        return step << 1 ^ step >> 31;
+    }
+    
+    /**
+     * Helper to count the bytes an encoded step takes.
+     *
+     * @param step the zigzag encoded step
+     * @return the number of bytes
+     */
+    private static int encodedSize(int step) {
+        return (Integer.SIZE - Integer.numberOfLeadingZeros(step | 1) + 6) / 7;
+    }
+    
+    /**
+     * Gets the word the path spells.
+     *
+     * @return the word
+     */
+    public String word() {
+        return word;
+    }
+    
+    /**
+     * Gets how many cells are in the path.
+     *
+     * @return the length of the path
+     */
+    public int length() {
+        return length;
+    }
+    
+    /**
+     * Gets how many bytes the path is stored in.
+     *
+     * @return the size of the encoded path
+     */
+    public int encodedSize() {
+        return steps.length;
+    }
+    
+    /**
+     * Gets the ids of the cells in the path, in order.
+     *
+     * @return the cell ids
+     */
+    public int[] cells() {
+        int[] cells = new int[length];
+        int position = 0;
+        int cell = 0;
+        for (int i = 0; i < length; i++) {
+            int step = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = steps[position++];
+                step |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            cell += step >>> 1 ^ -(step & 1);
+            cells[i] = cell;
+        }
+        return cells;
+    }
+    
+    /**
+     * Checks if a cell is in the path.
+     *
+     * @param cell the id of the cell
+     * @return true if the path goes through the cell
+     */
+    public boolean contains(int cell) {
+        for (int pathCell : cells()) {
+            if (pathCell == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WordPath other && word.equals(other.word) &&
+                Arrays.equals(steps, other.steps);
+    }
+    
+    @Override
+    public int hashCode() {
+        return word.hashCode() * 31 + Arrays.hashCode(steps);
+    }
+    
+    @Override
+    public String toString() {
+        return word + ' ' + Arrays.toString(cells());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Tests the neighbour tables built from each rule.
+ *
+ * @author Patrick Rafferty
+ */
+public class AdjacencyTest {
+    /**
+     * Helper method to get the neighbours of a cell.
+     *
+     * @param adjacency the neighbour table
+     * @param cell      the id of the cell
+     * @return the ids of the cell's neighbours
+     */
+    private static Set<Integer> neighbours(final Adjacency adjacency, final int cell) {
+        return IntStream.range(adjacency.start(cell), adjacency.end(cell))
+                .map(adjacency::neighbour).boxed().collect(Collectors.toSet());
+    }
+    
+    /**
+     * Makes sure the four and eight way rules stay inside the grid and skip the cell itself.
+     */
+    @Test
+    void squareRules() {
+        final Adjacency fourWay = Adjacency.of(3, 3, StandardRule.FOUR_WAY);
+        Assertions.assertEquals(Set.of(1, 3), neighbours(fourWay, 0));
+        Assertions.assertEquals(Set.of(1, 3, 5, 7), neighbours(fourWay, 4));
+        final Adjacency eightWay = Adjacency.of(3, 3, StandardRule.EIGHT_WAY);
+        Assertions.assertEquals(Set.of(1, 3, 4), neighbours(eightWay, 0));
+        Assertions.assertEquals(Set.of(0, 1, 2, 3, 5, 6, 7, 8), neighbours(eightWay, 4));
+        Assertions.assertEquals(9, eightWay.cellCount());
+    }
+    
+    /**
+     * Makes sure the hex, toroidal and knight rules find the right cells.
+     */
+    @Test
+    void otherRules() {
+        final Adjacency hex = Adjacency.of(3, 3, StandardRule.HEX);
+        Assertions.assertEquals(Set.of(1, 2, 3, 5, 7, 8), neighbours(hex, 4));
+        Assertions.assertEquals(Set.of(0, 1, 4, 6, 7), neighbours(hex, 3));
+        final Adjacency torus = Adjacency.of(3, 3, StandardRule.TOROIDAL);
+        Assertions.assertEquals(Set.of(1, 2, 3, 4, 5, 6, 7, 8), neighbours(torus, 0));
+        final Adjacency smallTorus = Adjacency.of(2, 2, StandardRule.TOROIDAL);
+        Assertions.assertEquals(Set.of(1, 2, 3), neighbours(smallTorus, 0));
+        final Adjacency knight = Adjacency.of(3, 3, StandardRule.KNIGHT);
+        Assertions.assertEquals(Set.of(5, 7), neighbours(knight, 0));
+        Assertions.assertEquals(Set.of(), neighbours(knight, 4));
+    }
+    
+    /**
+     * Makes sure neighbour masks match the table, reach the 64th cell and are left out of bigger
+     * grids.
+     */
+    @Test
+    void masks() {
+        final Adjacency eightWay = Adjacency.of(8, 8, StandardRule.EIGHT_WAY);
+        Assertions.assertTrue(eightWay.hasMasks());
+        for (int cell = 0; cell < eightWay.cellCount(); cell++) {
+            final long mask = eightWay.neighbourMask(cell);
+            Assertions.assertEquals(neighbours(eightWay, cell), IntStream.range(0, Long.SIZE)
+                    .filter(bit -> (mask & 1L << bit) != 0).boxed().collect(Collectors.toSet()));
+        }
+        Assertions.assertEquals(1L << 62 | 1L << 55 | 1L << 54, eightWay.neighbourMask(63));
+        final Adjacency tooBig = Adjacency.of(5, 13, StandardRule.FOUR_WAY);
+        Assertions.assertFalse(tooBig.hasMasks());
+        Assertions.assertThrows(IllegalStateException.class, () -> tooBig.neighbourMask(0));
+    }
+    
+    /**
+     * Makes sure every rule is picked by its short name, and unknown names are rejected.
+     */
+    @Test
+    void ruleNames() {
+        Assertions.assertEquals(StandardRule.FOUR_WAY, StandardRule.forName("4way"));
+        Assertions.assertEquals(StandardRule.TOROIDAL, StandardRule.forName("torus"));
+        for (final StandardRule rule : StandardRule.values()) {
+            Assertions.assertEquals(rule, StandardRule.forName(rule.ruleName()));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> StandardRule.forName("6way"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> StandardRule.forName("EIGHT_WAY"));
+    }
+}
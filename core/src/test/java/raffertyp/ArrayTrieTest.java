@@ -0,0 +1,61 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests the array backed trie.
+ *
+ * @author Patrick Rafferty
+ */
+public class ArrayTrieTest {
+    /**
+     * Path to the word dictionary.
+     */
+    private static final Path WORDS_DICTIONARY = Path.of("data/words.txt");
+    
+    /**
+     * Makes sure every word in the dictionary file can be found in the trie.
+     *
+     * @throws IOException if there was a problem reading the dictionary
+     */
+    @Test
+    void containsAllWords() throws IOException {
+        final List<String> words = Files.readAllLines(WORDS_DICTIONARY);
+        final ArrayTrie trie = ArrayTrie.of(words);
+        Assertions.assertEquals(words.stream().distinct().count(), trie.wordCount());
+        for (final String word : words) {
+            Assertions.assertTrue(trie.contains(word), "Missing " + word);
+        }
+        Assertions.assertEquals(21, trie.longestWordLength());
+    }
+    
+    /**
+     * Makes sure prefixes are told apart from words.
+     */
+    @Test
+    void prefixes() {
+        final ArrayTrie trie = ArrayTrie.of(List.of("pine", "pines", "pie", "e-mail", "Pit"));
+        Assertions.assertEquals(3, trie.wordCount());
+        Assertions.assertTrue(trie.hasPrefix("pin"));
+        Assertions.assertFalse(trie.contains("pin"));
+        Assertions.assertTrue(trie.contains("pine"));
+        Assertions.assertTrue(trie.contains("pines"));
+        Assertions.assertFalse(trie.hasPrefix("pit"));
+        Assertions.assertFalse(trie.hasPrefix("e"));
+        Assertions.assertFalse(trie.contains("Pit"));
+        Assertions.assertEquals(PrefixIndex.NONE, trie.child(trie.root(), '-'));
+    }
+}
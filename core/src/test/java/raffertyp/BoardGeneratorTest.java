@@ -0,0 +1,100 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Tests making random grids.
+ *
+ * @author Patrick Rafferty
+ */
+public class BoardGeneratorTest {
+    /**
+     * Makes sure a seed always makes the same grids, in order or in parallel.
+     */
+    @Test
+    void seeded() {
+        final BoardGenerator generator = BoardGenerator.of(DiceSet.NEW);
+        final List<Grid> grids = generator.boards(4, 4, 2852).limit(1000).toList();
+        Assertions.assertEquals(grids,
+                generator.boards(4, 4, 2852).parallel().limit(1000).toList());
+        Assertions.assertNotEquals(grids, generator.boards(4, 4, 2853).limit(1000).toList());
+        Assertions.assertTrue(new HashSet<>(grids).size() > 990);
+        Assertions.assertEquals(generator.generate(5, 3, new SplittableRandom(7)),
+                generator.generate(5, 3, new SplittableRandom(7)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> generator.generate(0, 4, new SplittableRandom()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> generator.boards(4, -1, 0));
+    }
+    
+    /**
+     * Makes sure each die is rolled once per copy of the set, so a grid never has more of a face
+     * than the dice have.
+     */
+    @Test
+    void dice() {
+        for (final DiceSet set : DiceSet.values()) {
+            final BoardGenerator generator = BoardGenerator.of(set);
+            final Set<String> faces = new HashSet<>();
+            int quDice = 0;
+            for (int die = 0; die < set.size(); die++) {
+                faces.addAll(set.faces(die));
+                quDice += set.faces(die).contains("qu") ? 1 : 0;
+            }
+            final int maxQu = quDice;
+            generator.boards(8, 8, set.ordinal()).limit(200).forEach(grid -> {
+                long qu = 0;
+                for (int cell = 0; cell < grid.cellCount(); cell++) {
+                    final String tile = grid.tile(cell / 8, cell % 8);
+                    Assertions.assertTrue(faces.contains(tile), tile);
+                    qu += tile.equals("qu") ? 1 : 0;
+                }
+                Assertions.assertTrue(qu <= (long) maxQu * ((64 + set.size() - 1) / set.size()));
+            });
+        }
+        final Grid grid = BoardGenerator.of(DiceSet.NEW).boards(4, 4, 1).filter(
+                board -> !board.tiles().isEmpty()).findFirst().orElseThrow();
+        Assertions.assertEquals(List.of("qu"), grid.tiles().tiles());
+    }
+    
+    /**
+     * Makes sure letters are drawn about as often as their weights say.
+     */
+    @Test
+    void weighted() {
+        final Grid grid = BoardGenerator.weighted(Map.of('A', 3, 'b', 1, 'c', 0))
+                .generate(100, 100, new SplittableRandom(2852));
+        final long as = IntStream.range(0, grid.cellCount())
+                .filter(cell -> grid.letter(cell / 100, cell % 100) == 'a').count();
+        Assertions.assertEquals(7500, as, 200);
+        Assertions.assertTrue(grid.toString().matches("[ab\\n]+"));
+        
+        final Grid fromWords = BoardGenerator.fromWords(List.of("Aab", "b-a"))
+                .generate(10, 10, new SplittableRandom(1));
+        Assertions.assertTrue(fromWords.toString().matches("[ab\\n]+"));
+        Assertions.assertTrue(BoardGenerator.uniform().generate(20, 20, new SplittableRandom(1))
+                .toString().matches("[a-z\\n]+"));
+        
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BoardGenerator.weighted(Map.of('a', -1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BoardGenerator.weighted(Map.of('a', 0)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> BoardGenerator.fromWords(List.of("123")));
+    }
+}
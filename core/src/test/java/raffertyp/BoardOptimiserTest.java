@@ -0,0 +1,97 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests searching for high scoring grids.
+ *
+ * @author Patrick Rafferty
+ */
+public class BoardOptimiserTest {
+    /**
+     * The dictionary to score with.
+     */
+    private static ArrayTrie index;
+    
+    /**
+     * Loads the dictionary once for every test.
+     *
+     * @throws IOException if the dictionary can't be read
+     */
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        index = ArrayTrie.load(Path.of("data/words.txt"));
+    }
+    
+    /**
+     * Makes sure the scorer agrees with solving the grid, including after changing it in place.
+     */
+    @Test
+    void scorer() {
+        for (final StandardRule rule : List.of(StandardRule.FOUR_WAY, StandardRule.EIGHT_WAY,
+                StandardRule.HEX, StandardRule.TOROIDAL)) {
+            final Solver solver = new Solver(index, rule);
+            final char[] letters = new char[25];
+            final BoardScorer scorer = new BoardScorer(index, letters,
+                    Adjacency.of(5, 5, rule));
+            BoardGenerator.uniform().boards(5, 5, rule.ordinal()).limit(200).forEach(grid -> {
+                for (int cell = 0; cell < letters.length; cell++) {
+                    letters[cell] = grid.letter(cell / 5, cell % 5);
+                }
+                final Set<String> words = solver.solve(grid);
+                Assertions.assertEquals(words.stream().mapToInt(GameBoard::score).sum(),
+                        scorer.score(), grid::toString);
+                Assertions.assertEquals(words.size(), scorer.wordCount());
+            });
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoardScorer(index,
+                new char[81], Adjacency.of(9, 9, StandardRule.EIGHT_WAY)));
+    }
+    
+    /**
+     * Makes sure the best grid's score is right, beats random grids and is the same for the same
+     * seed.
+     */
+    @Test
+    void optimise() {
+        final BoardOptimiser optimiser = new BoardOptimiser(index, StandardRule.EIGHT_WAY);
+        optimiser.setChains(3);
+        optimiser.setSteps(5000);
+        final BoardOptimiser.Result result = optimiser.optimise(4, 4, 2852);
+        final Set<String> words = new Solver(index, StandardRule.EIGHT_WAY)
+                .solve(result.grid());
+        Assertions.assertEquals(words.stream().mapToInt(GameBoard::score).sum(),
+                result.score());
+        Assertions.assertEquals(words.size(), result.wordCount());
+        Assertions.assertEquals(3 * 5001, result.evaluations());
+        Assertions.assertEquals(result.grid(), optimiser.optimise(4, 4, 2852).grid());
+        final Solver solver = new Solver(index, StandardRule.EIGHT_WAY);
+        final int bestRandom = BoardGenerator.uniform().boards(4, 4, 2852).limit(1000)
+                .mapToInt(grid -> solver.solve(grid).stream().mapToInt(GameBoard::score).sum())
+                .max().orElseThrow();
+        Assertions.assertTrue(result.score() > bestRandom,
+                result.score() + " <= " + bestRandom);
+        optimiser.setStartTemperature(0);
+        optimiser.setChains(1);
+        Assertions.assertTrue(optimiser.optimise(3, 3, 1).score() > 0);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> optimiser.optimise(9, 9, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> optimiser.setStartTemperature(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> optimiser.setChains(0));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Tests checking words players claim to have found.
+ *
+ * @author Patrick Rafferty
+ */
+public class ClaimTest {
+    /**
+     * Every word in the dictionary.
+     */
+    private static List<String> words;
+    
+    /**
+     * Reads the dictionary.
+     *
+     * @throws IOException if there was a problem reading the word list
+     */
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        words = Files.readAllLines(Path.of("data/words.txt"));
+    }
+    
+    /**
+     * Makes sure claiming every word in the dictionary accepts exactly the words a full search
+     * finds, with a path that spells each one.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void matchesFullSearch() throws IOException {
+        for (final String size : List.of("2x3", "4x4", "6x6")) {
+            final Grid grid = Grid.load(Path.of("data/grid" + size + ".txt"));
+            for (final NeighbourRule rule : List.of(StandardRule.FOUR_WAY,
+                    StandardRule.EIGHT_WAY)) {
+                final GameBoard board = new GameBoard(ArrayTrie.of(words));
+                board.loadGrid(grid);
+                final Map<String, Claim> claims = board.validate(rule, words);
+                final Set<String> valid = claims.values().stream().filter(Claim::isValid)
+                        .map(Claim::word).collect(Collectors.toSet());
+                Assertions.assertEquals(new TreeSet<>(board.findWords(rule)),
+                        new TreeSet<>(valid), size + " " + rule);
+                Assertions.assertEquals(Set.copyOf(words), claims.keySet());
+                for (final String word : valid) {
+                    final int[] path = claims.get(word).path().cells();
+                    final StringBuilder spelled = new StringBuilder();
+                    for (final int cell : path) {
+                        spelled.append(grid.letter(cell / grid.cols(), cell % grid.cols()));
+                    }
+                    Assertions.assertEquals(word, spelled.toString());
+                    Assertions.assertEquals(GameBoard.score(word), claims.get(word).score());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Makes sure each reason for turning down a claim is reported.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void reasons() throws IOException {
+        final List<String> found =
+                Files.readAllLines(Path.of("data/testOutput/words8way4x4.txt"));
+        final String missing = words.stream().filter(word -> word.length() > 3)
+                .filter(word -> !found.contains(word)).findFirst().orElseThrow();
+        final String upper = found.get(0).toUpperCase();
+        final List<String> claimed = new ArrayList<>(List.of(upper, "xq", "qzxv", missing,
+                upper));
+        for (final GameBoard board : List.of(new GameBoard(ArrayTrie.of(words)),
+                new GameBoard(new ArrayList<>(words)))) {
+            board.loadGrid(Path.of("data/grid4x4.txt"));
+            final Map<String, Claim> claims = board.validate(claimed);
+            Assertions.assertEquals(List.of(upper, "xq", "qzxv", missing),
+                    List.copyOf(claims.keySet()));
+            Assertions.assertEquals(Claim.Status.VALID, claims.get(upper).status());
+            Assertions.assertEquals(GameBoard.score(upper), claims.get(upper).score());
+            Assertions.assertEquals(Claim.Status.TOO_SHORT, claims.get("xq").status());
+            Assertions.assertEquals(Claim.Status.NOT_A_WORD, claims.get("qzxv").status());
+            Assertions.assertEquals(Claim.Status.NOT_ON_BOARD, claims.get(missing).status());
+            Assertions.assertEquals(0, claims.get(missing).score());
+            Assertions.assertNull(claims.get(missing).path());
+        }
+    }
+    
+    /**
+     * Makes sure claiming the same word again in a different case only scores it once.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void mixedCaseDuplicates() throws IOException {
+        final String word = Files.readAllLines(Path.of("data/testOutput/words8way4x4.txt")).get(0);
+        final String capital = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+        final String upper = word.toUpperCase();
+        final GameBoard board = new GameBoard(ArrayTrie.of(words));
+        board.loadGrid(Path.of("data/grid4x4.txt"));
+        final Map<String, Claim> claims = board.validate(List.of(capital, word, upper, word));
+        Assertions.assertEquals(List.of(capital, word, upper), List.copyOf(claims.keySet()));
+        Assertions.assertEquals(Claim.Status.VALID, claims.get(capital).status());
+        Assertions.assertEquals(GameBoard.score(word), claims.get(capital).score());
+        for (final String duplicate : List.of(word, upper)) {
+            Assertions.assertEquals(Claim.Status.DUPLICATE, claims.get(duplicate).status());
+            Assertions.assertEquals(0, claims.get(duplicate).score());
+        }
+        Assertions.assertEquals(GameBoard.score(word),
+                claims.values().stream().mapToInt(Claim::score).sum());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests building, writing and searching a DAWG.
+ *
+ * @author Patrick Rafferty
+ */
+public class DawgTest {
+    /**
+     * Path to the word dictionary.
+     */
+    private static final Path WORDS_DICTIONARY = Path.of("data/words.txt");
+    
+    /**
+     * Helper method to check a DAWG holds the same words as a trie and searches a board the same.
+     *
+     * @param dawg  the DAWG to check
+     * @param trie  the trie it was built from
+     * @param words the words the trie was built from
+     * @throws IOException if there was a problem reading a file
+     */
+    private static void assertSameWords(final Dawg dawg, final ArrayTrie trie,
+                                        final List<String> words) throws IOException {
+        Assertions.assertEquals(trie.wordCount(), dawg.wordCount());
+        Assertions.assertEquals(trie.longestWordLength(), dawg.longestWordLength());
+        for (final String word : words) {
+            Assertions.assertTrue(dawg.contains(word), "Missing " + word);
+            Assertions.assertFalse(dawg.contains(word + "qx"), "Extra " + word + "qx");
+        }
+        final GameBoard gameBoard = new GameBoard(dawg);
+        gameBoard.loadGrid(Path.of("data/grid6x6.txt"));
+        Assertions.assertEquals(
+                Set.copyOf(Files.readAllLines(Path.of("data/testOutput/words8way6x6.txt"))),
+                gameBoard.findWords(false));
+    }
+    
+    /**
+     * Makes sure a DAWG is smaller than the trie it came from and holds the same words.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void minimise() throws IOException {
+        final List<String> words = Files.readAllLines(WORDS_DICTIONARY);
+        final ArrayTrie trie = ArrayTrie.of(words);
+        final Dawg dawg = Dawg.of(trie);
+        Assertions.assertTrue(dawg.nodeCount() < trie.nodeCount() / 2,
+                "DAWG has " + dawg.nodeCount() + " nodes");
+        Assertions.assertTrue(dawg.heapBytes() < trie.heapBytes());
+        assertSameWords(dawg, trie, words);
+    }
+    
+    /**
+     * Makes sure small word lists share their endings.
+     */
+    @Test
+    void sharesSuffixes() {
+        final Dawg dawg = Dawg.of(ArrayTrie.of(List.of("tap", "taps", "top", "tops")));
+        // root, t, ta/to, p, s
+        Assertions.assertEquals(5, dawg.nodeCount());
+        Assertions.assertEquals(5, dawg.edgeCount());
+        Assertions.assertEquals(dawg.find("tap"), dawg.find("top"));
+        Assertions.assertFalse(dawg.contains("ta"));
+        Assertions.assertTrue(dawg.contains("tops"));
+    }
+    
+    /**
+     * Makes sure a DAWG can be written to a file and mapped back.
+     *
+     * @throws IOException if there was a problem reading or writing a file
+     */
+    @Test
+    void roundTrip() throws IOException {
+        final List<String> words = Files.readAllLines(WORDS_DICTIONARY);
+        final ArrayTrie trie = ArrayTrie.of(words);
+        final Dawg dawg = Dawg.of(trie);
+        final Path file = Files.createTempFile("words", ".dawg");
+        file.toFile().deleteOnExit();
+        dawg.write(file);
+        final Dawg mapped = Dawg.map(file);
+        Assertions.assertEquals(dawg.nodeCount(), mapped.nodeCount());
+        Assertions.assertEquals(dawg.edgeCount(), mapped.edgeCount());
+        assertSameWords(mapped, trie, words);
+        Assertions.assertThrows(IOException.class, () -> Dawg.map(WORDS_DICTIONARY));
+    }
+}
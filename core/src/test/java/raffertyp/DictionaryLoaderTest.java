@@ -0,0 +1,114 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests reading word lists in parallel chunks.
+ *
+ * @author Patrick Rafferty
+ */
+public class DictionaryLoaderTest {
+    /**
+     * Path to the word dictionary.
+     */
+    private static final Path WORDS_DICTIONARY = Path.of("data/words.txt");
+    
+    /**
+     * Makes sure the dictionary file loads the same words as reading every line, however small
+     * the chunks are.
+     *
+     * @throws IOException if there was a problem reading the dictionary
+     */
+    @Test
+    void matchesReadAllLines() throws IOException {
+        final List<String> expected = Files.readAllLines(WORDS_DICTIONARY).stream().sorted()
+                .distinct().toList();
+        for (final int chunkSize : new int[] {1, 7, 4096, DictionaryLoader.DEFAULT_CHUNK_SIZE}) {
+            final DictionaryLoader loader = new DictionaryLoader();
+            loader.setChunkSize(chunkSize);
+            final DictionaryLoader.Result result = loader.load(WORDS_DICTIONARY);
+            Assertions.assertEquals(expected, result.words());
+            Assertions.assertEquals(expected.size(), result.stats().words());
+            Assertions.assertEquals(Files.size(WORDS_DICTIONARY), result.stats().bytes());
+            Assertions.assertEquals(21, result.stats().longestWordLength());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new DictionaryLoader().setChunkSize(0));
+    }
+    
+    /**
+     * Makes sure words are trimmed and lowercased, words with anything but letters are rejected,
+     * duplicates are dropped and the counts only include the words kept.
+     *
+     * @param directory folder for the word list
+     * @throws IOException if the word list can't be written or read
+     */
+    @Test
+    void normalises(@TempDir Path directory) throws IOException {
+        final Path path = directory.resolve("words.txt");
+        Files.writeString(path, "Cat\r\n  dog \n\ncan't\ncat\ne-mail\ncafé\nDOG\nat",
+                StandardCharsets.UTF_8);
+        final DictionaryLoader loader = new DictionaryLoader();
+        loader.setChunkSize(3);
+        final DictionaryLoader.Result result = loader.load(path);
+        Assertions.assertEquals(List.of("at", "cat", "dog"), result.words());
+        final DictionaryLoader.Stats stats = result.stats();
+        Assertions.assertEquals(8, stats.lines());
+        Assertions.assertEquals(3, stats.rejected());
+        Assertions.assertEquals(2, stats.duplicates());
+        Assertions.assertEquals(3, stats.longestWordLength());
+        Assertions.assertEquals(1, stats.lengthCounts()[2]);
+        Assertions.assertEquals(2, stats.lengthCounts()[3]);
+        Assertions.assertEquals(2, stats.letterCounts()['a' - 'a']);
+        Assertions.assertEquals(2, stats.letterCounts()['t' - 'a']);
+        Assertions.assertEquals(1, stats.letterCounts()['g' - 'a']);
+        loader.setLowerCase(false);
+        Assertions.assertEquals(List.of("at", "cat", "dog"), loader.load(path).words());
+        Assertions.assertEquals(5, loader.load(path).stats().rejected());
+        final GameBoard gameBoard = new GameBoard();
+        gameBoard.loadDictionary(path);
+        Assertions.assertEquals(3, gameBoard.getLoadStats().words());
+        Assertions.assertTrue(ArrayTrie.load(path).contains("dog"));
+    }
+    
+    /**
+     * Makes sure a UTF-8 byte order mark at the start of the file is skipped rather than
+     * rejecting the first word.
+     *
+     * @param directory folder for the word list
+     * @throws IOException if the word list can't be written or read
+     */
+    @Test
+    void byteOrderMark(@TempDir Path directory) throws IOException {
+        final Path path = directory.resolve("words.txt");
+        Files.writeString(path, "\uFEFFcat\ndog\n", StandardCharsets.UTF_8);
+        Assertions.assertEquals(0xEF, Files.readAllBytes(path)[0] & 0xFF);
+        for (final int chunkSize : new int[] {1, 2, 5, DictionaryLoader.DEFAULT_CHUNK_SIZE}) {
+            final DictionaryLoader loader = new DictionaryLoader();
+            loader.setChunkSize(chunkSize);
+            final DictionaryLoader.Result result = loader.load(path);
+            Assertions.assertEquals(List.of("cat", "dog"), result.words());
+            Assertions.assertEquals(2, result.stats().lines());
+            Assertions.assertEquals(0, result.stats().rejected());
+        }
+        Files.writeString(path, "\uFEFF", StandardCharsets.UTF_8);
+        final DictionaryLoader.Stats onlyMark = new DictionaryLoader().load(path).stats();
+        Assertions.assertEquals(0, onlyMark.lines());
+        Assertions.assertEquals(0, onlyMark.rejected());
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tests cutting dictionaries down to the words a grid has enough letters for.
+ *
+ * @author Patrick Rafferty
+ */
+public class LetterFilterTest {
+    /**
+     * Sizes of the grid files with expected output.
+     */
+    private static final String[] GRID_SIZES = {"2x2", "2x3", "3x3", "4x4", "6x6"};
+    
+    /**
+     * Makes sure words are only kept if the grid has enough copies of each letter.
+     */
+    @Test
+    void letterCounts() {
+        final LetterFilter filter = LetterFilter.of("noonbe".toCharArray());
+        Assertions.assertEquals(2, filter.count('n'));
+        Assertions.assertEquals(0, filter.count('z'));
+        Assertions.assertTrue(filter.accepts("bone"));
+        Assertions.assertFalse(filter.accepts("nonne"));
+        Assertions.assertFalse(filter.accepts("boob"));
+        Assertions.assertFalse(filter.accepts("bonez"));
+        Assertions.assertEquals(List.of("bone", "noon", "neon"),
+                filter.filter(List.of("on", "bone", "boob", "noon", "zone", "neon")));
+        final ArrayTrie trie = filter.filter(ArrayTrie.of(List.of("on", "bone", "boob", "noon")));
+        Assertions.assertEquals(2, trie.wordCount());
+        Assertions.assertTrue(trie.contains("noon"));
+        Assertions.assertFalse(trie.contains("on"));
+        Assertions.assertEquals(0, LetterFilter.of(new char[0]).filter(trie).wordCount());
+    }
+    
+    /**
+     * Makes sure changing a cell's letters updates the counts, and a filter only covers another
+     * if it has as many of every letter.
+     */
+    @Test
+    void replaceLetters() {
+        final LetterFilter filter = LetterFilter.of("noonbe".toCharArray());
+        final LetterFilter before = filter.copy();
+        filter.replace("b", "a");
+        Assertions.assertEquals(0, filter.count('b'));
+        Assertions.assertEquals(1, filter.count('a'));
+        Assertions.assertFalse(before.covers(filter));
+        filter.replace("a", "n");
+        Assertions.assertEquals(3, filter.count('n'));
+        Assertions.assertTrue(filter.accepts("nonne"));
+        Assertions.assertFalse(before.covers(filter));
+        filter.replace("nn", "qu");
+        Assertions.assertEquals(1, filter.count('q'));
+        Assertions.assertEquals(1, filter.count('u'));
+        Assertions.assertFalse(filter.accepts("noon"));
+        filter.replace("qu", "b");
+        Assertions.assertTrue(before.covers(filter));
+        Assertions.assertFalse(filter.covers(before));
+        Assertions.assertEquals(1, before.count('b'));
+        before.include(filter);
+        Assertions.assertTrue(before.covers(filter));
+        Assertions.assertEquals(2, before.count('o'));
+        final LetterFilter empty = LetterFilter.of(new char[0]);
+        empty.replace("", "z");
+        Assertions.assertEquals(1, empty.count('z'));
+    }
+    
+    /**
+     * Makes sure filtering a prefix index keeps the same words as filtering the word list.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void filterIndex() throws IOException {
+        final List<String> words = Files.readAllLines(Path.of("data/words.txt"));
+        final ArrayTrie trie = ArrayTrie.of(words);
+        for (final String size : GRID_SIZES) {
+            final LetterFilter filter =
+                    LetterFilter.of(Grid.load(Path.of("data/grid" + size + ".txt")).letters());
+            final List<String> kept = filter.filter(words);
+            final ArrayTrie filtered = filter.filter(trie);
+            Assertions.assertEquals(Set.copyOf(kept).size(), filtered.wordCount());
+            for (final String word : kept) {
+                Assertions.assertTrue(filtered.contains(word), word);
+            }
+        }
+    }
+    
+    /**
+     * Makes sure boards find the same words with pre-filtering on, with both prefix indexes and
+     * Collections, and report how much was filtered.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void preFilteredSearch() throws IOException {
+        final List<String> words = Files.readAllLines(Path.of("data/2000words.txt"));
+        final List<GameBoard> gameBoards = new ArrayList<>();
+        gameBoards.add(new GameBoard(ArrayTrie.of(words)));
+        for (final var dictionary : List.of(new TreeSet<String>(), new ArrayList<String>(),
+                new LinkedList<String>(), new LinkedHashSet<String>())) {
+            final GameBoard gameBoard = new GameBoard(dictionary);
+            gameBoard.loadDictionary(words);
+            gameBoards.add(gameBoard);
+        }
+        for (final GameBoard gameBoard : gameBoards) {
+            gameBoard.setPreFilter(true);
+            for (final String size : GRID_SIZES) {
+                gameBoard.loadGrid(Path.of("data/grid" + size + ".txt"));
+                Assertions.assertNull(gameBoard.getFilterStats());
+                Assertions.assertEquals(Set.copyOf(Files.readAllLines(
+                        Path.of("data/testOutput/2000words8way" + size + ".txt"))),
+                        gameBoard.findWords(false));
+                final LetterFilter.Stats stats = gameBoard.getFilterStats();
+                Assertions.assertTrue(stats.keptWords() < stats.dictionaryWords());
+                Assertions.assertEquals(stats.dictionaryWords() - stats.keptWords(),
+                        stats.eliminatedWords());
+            }
+        }
+    }
+    
+    /**
+     * Makes sure changing a cell only filters the dictionary again when the grid gains a letter
+     * it wasn't filtered with, and searches still find every word.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void preFilteredEdits() throws IOException {
+        final List<String> words = Files.readAllLines(Path.of("data/words.txt"));
+        final ArrayTrie trie = ArrayTrie.of(words);
+        final GameBoard gameBoard = new GameBoard(trie);
+        gameBoard.setPreFilter(true);
+        Grid grid = Grid.of(List.of("abc", "def", "ghi"));
+        gameBoard.loadGrid(grid);
+        gameBoard.findWords(StandardRule.EIGHT_WAY);
+        Assertions.assertNotNull(gameBoard.getFilterStats());
+        gameBoard.setCell(1, 1, "a");
+        grid = grid.withTile(1, 1, "a");
+        Assertions.assertNull(gameBoard.getFilterStats());
+        gameBoard.findWords(StandardRule.EIGHT_WAY);
+        final LetterFilter.Stats first = gameBoard.getFilterStats();
+        gameBoard.setCell(1, 1, "e");
+        grid = grid.withTile(1, 1, "e");
+        Assertions.assertSame(first, gameBoard.getFilterStats());
+        Assertions.assertEquals(new TreeSet<>(new Solver(trie, StandardRule.EIGHT_WAY)
+                .solve(grid)), new TreeSet<>(gameBoard.findWords(StandardRule.EIGHT_WAY)));
+        gameBoard.setCell(1, 1, "a");
+        grid = grid.withTile(1, 1, "a");
+        Assertions.assertSame(first, gameBoard.getFilterStats());
+        Assertions.assertEquals(new TreeSet<>(new Solver(trie, StandardRule.EIGHT_WAY)
+                .solve(grid)), new TreeSet<>(gameBoard.findWords(StandardRule.EIGHT_WAY)));
+        for (final String tile : List.of("t", "qu")) {
+            gameBoard.setCell(1, 1, tile);
+            grid = grid.withTile(1, 1, tile);
+            Assertions.assertNull(gameBoard.getFilterStats(), tile);
+            Assertions.assertEquals(new TreeSet<>(new Solver(trie, StandardRule.EIGHT_WAY)
+                    .solve(grid)), new TreeSet<>(gameBoard.findWords(StandardRule.EIGHT_WAY)),
+                    tile);
+            Assertions.assertNotSame(first, gameBoard.getFilterStats());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Tests finding words in straight lines.
+ *
+ * @author Patrick Rafferty
+ */
+public class LineSearchTest {
+    /**
+     * The words in the dictionary.
+     */
+    private static Set<String> words;
+    /**
+     * Search built from the dictionary.
+     */
+    private static LineSearch search;
+    
+    /**
+     * Builds the search once for every test.
+     *
+     * @throws IOException if the dictionary can't be read
+     */
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        words = new HashSet<>(Files.readAllLines(Path.of("data/words.txt")));
+        search = LineSearch.of(words);
+    }
+    
+    /**
+     * Finds every word in a straight line by trying every start, direction and length.
+     *
+     * @param grid the grid to search
+     * @return every match, as text so they can be compared in any order
+     */
+    private static List<String> bruteForce(Grid grid) {
+        final List<String> matches = new ArrayList<>();
+        for (int cell = 0; cell < grid.cellCount(); cell++) {
+            for (final LineMatch.Direction direction : LineMatch.Direction.values()) {
+                final StringBuilder word = new StringBuilder();
+                int row = cell / grid.cols();
+                int col = cell % grid.cols();
+                for (int length = 1; row >= 0 && row < grid.rows() && col >= 0 &&
+                        col < grid.cols(); length++) {
+                    word.append(grid.tile(row, col));
+                    if (word.length() >= GameBoard.MIN_WORD_LENGTH &&
+                            words.contains(word.toString())) {
+                        matches.add(new LineMatch(word.toString(), cell / grid.cols(),
+                                cell % grid.cols(), direction, length) + " " + length);
+                    }
+                    row += direction.rowStep();
+                    col += direction.colStep();
+                }
+            }
+        }
+        return matches.stream().sorted().toList();
+    }
+    
+    /**
+     * Makes sure the search finds exactly what trying every line finds.
+     *
+     * @throws IOException if a grid can't be read
+     */
+    @Test
+    void matchesBruteForce() throws IOException {
+        final List<Grid> grids = new ArrayList<>(List.of(Grid.load(Path.of("data/grid4x4.txt")),
+                Grid.load(Path.of("data/grid6x6.txt")), Grid.load(Path.of("data/gridQu4x4.txt")),
+                Grid.load(Path.of("data/gridQu6x6.txt"))));
+        final SplittableRandom random = new SplittableRandom(2852);
+        grids.add(BoardGenerator.fromWords(words).generate(1, 30, random));
+        grids.add(BoardGenerator.fromWords(words).generate(23, 17, random));
+        grids.add(BoardGenerator.of(DiceSet.BIG).generate(9, 11, random));
+        for (final Grid grid : grids) {
+            final List<String> found = search.find(grid).stream()
+                    .map(match -> match + " " + match.length()).sorted().toList();
+            Assertions.assertEquals(bruteForce(grid), found, grid::toString);
+        }
+    }
+    
+    /**
+     * Makes sure matches say where they are, and that the board finds the same matches with
+     * either kind of dictionary.
+     */
+    @Test
+    void positions() {
+        final Grid grid = Grid.of(List.of("xcatx", "xoxxx", "xgxxx", "x[qu]itx"));
+        final List<LineMatch> matches = search.find(grid);
+        Assertions.assertTrue(matches.contains(
+                new LineMatch("cat", 0, 1, LineMatch.Direction.EAST, 3)));
+        Assertions.assertTrue(matches.contains(
+                new LineMatch("cog", 0, 1, LineMatch.Direction.SOUTH, 3)));
+        Assertions.assertTrue(matches.contains(
+                new LineMatch("quit", 3, 1, LineMatch.Direction.EAST, 3)));
+        Assertions.assertFalse(matches.stream().anyMatch(match -> match.word().equals("uit")));
+        Assertions.assertArrayEquals(new int[] {1, 6, 11},
+                new LineMatch("cog", 0, 1, LineMatch.Direction.SOUTH, 3).cells(5));
+        final GameBoard trieBoard = new GameBoard();
+        trieBoard.loadDictionary(List.copyOf(words));
+        trieBoard.loadGrid(grid);
+        final GameBoard setBoard = new GameBoard(new HashSet<>());
+        setBoard.loadDictionary(List.copyOf(words));
+        setBoard.loadGrid(grid);
+        Assertions.assertEquals(matches, trieBoard.findLines());
+        Assertions.assertEquals(matches, setBoard.findLines());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests compiling a dictionary and searching it from a mapped file.
+ *
+ * @author Patrick Rafferty
+ */
+public class MappedTrieTest {
+    /**
+     * Path to the word dictionary.
+     */
+    private static final Path WORDS_DICTIONARY = Path.of("data/words.txt");
+    
+    /**
+     * Makes sure a mapped trie holds the same words and finds the same words on a board.
+     *
+     * @throws IOException if there was a problem reading or writing a file
+     */
+    @Test
+    void roundTrip() throws IOException {
+        final List<String> words = Files.readAllLines(WORDS_DICTIONARY);
+        final ArrayTrie trie = ArrayTrie.of(words);
+        final Path compiled = Files.createTempFile("words", ".trie");
+        compiled.toFile().deleteOnExit();
+        MappedTrie.write(trie, compiled);
+        final MappedTrie mapped = MappedTrie.map(compiled);
+        Assertions.assertEquals(trie.nodeCount(), mapped.nodeCount());
+        Assertions.assertEquals(trie.wordCount(), mapped.wordCount());
+        Assertions.assertEquals(trie.longestWordLength(), mapped.longestWordLength());
+        for (final String word : words) {
+            Assertions.assertTrue(mapped.contains(word), "Missing " + word);
+        }
+        Assertions.assertFalse(mapped.contains("pogoniasx"));
+        final GameBoard gameBoard = new GameBoard(mapped);
+        gameBoard.loadGrid(Path.of("data/grid6x6.txt"));
+        Assertions.assertEquals(
+                Set.copyOf(Files.readAllLines(Path.of("data/testOutput/words8way6x6.txt"))),
+                gameBoard.findWords(false));
+    }
+    
+    /**
+     * Makes sure files that are not compiled dictionaries are rejected.
+     */
+    @Test
+    void rejectsWordList() {
+        Assertions.assertThrows(IOException.class, () -> MappedTrie.map(WORDS_DICTIONARY));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Tests the dictionary packed into a byte array.
+ *
+ * @author Patrick Rafferty
+ */
+public class PackedDictionaryTest {
+    /**
+     * The words in the dictionary.
+     */
+    private static List<String> words;
+    /**
+     * The dictionary packed.
+     */
+    private static PackedDictionary packed;
+    
+    /**
+     * Packs the dictionary once for every test.
+     *
+     * @throws IOException if the dictionary can't be read
+     */
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        words = Files.readAllLines(Path.of("data/words.txt"));
+        packed = PackedDictionary.of(words);
+    }
+    
+    /**
+     * Makes sure every word in the dictionary file can be found, both with contains and by
+     * walking nodes.
+     */
+    @Test
+    void containsAllWords() {
+        Assertions.assertEquals(words.stream().distinct().count(), packed.wordCount());
+        Assertions.assertEquals(21, packed.longestWordLength());
+        for (final String word : words) {
+            Assertions.assertTrue(packed.contains(word), "Missing " + word);
+            final int node = packed.find(word);
+            Assertions.assertTrue(node != PrefixIndex.NONE && packed.isWord(node), word);
+        }
+        Assertions.assertEquals(words.stream().sorted().distinct().toList().get(100),
+                packed.word(100));
+    }
+    
+    /**
+     * Makes sure prefixes are told apart from words, and walking stops at the end of a prefix's
+     * words.
+     */
+    @Test
+    void prefixes() {
+        final PackedDictionary small = PackedDictionary.of(
+                List.of("pine", "pines", "pie", "e-mail", "Pit", "pin" + "e".repeat(70)));
+        Assertions.assertEquals(3, small.wordCount());
+        Assertions.assertTrue(small.hasPrefix("pin"));
+        Assertions.assertFalse(small.contains("pin"));
+        Assertions.assertTrue(small.contains("pine"));
+        Assertions.assertTrue(small.contains("pines"));
+        Assertions.assertFalse(small.hasPrefix("pit"));
+        Assertions.assertFalse(small.hasPrefix("e"));
+        Assertions.assertFalse(small.contains("Pit"));
+        Assertions.assertEquals(PrefixIndex.NONE, small.child(small.root(), '-'));
+        Assertions.assertEquals("pie", small.word(0));
+        Assertions.assertEquals(PrefixIndex.NONE, small.find("pinea"));
+        Assertions.assertEquals(PrefixIndex.NONE, small.find("pies"));
+        Assertions.assertEquals(PrefixIndex.NONE, small.find("pq"));
+        Assertions.assertTrue(small.isWord(small.find("pie")));
+        Assertions.assertFalse(small.isWord(small.find("pi")));
+        final PackedDictionary empty = PackedDictionary.of(List.of());
+        Assertions.assertFalse(empty.contains(""));
+        Assertions.assertEquals(PrefixIndex.NONE, empty.child(empty.root(), 'a'));
+    }
+    
+    /**
+     * Makes sure walking random prefixes gives the same answers as a trie, and searching a grid
+     * finds the same words.
+     *
+     * @throws IOException if a grid can't be read
+     */
+    @Test
+    void matchesTrie() throws IOException {
+        final ArrayTrie trie = ArrayTrie.of(words);
+        final SplittableRandom random = new SplittableRandom(2852);
+        for (int i = 0; i < 20_000; i++) {
+            final String word = words.get(random.nextInt(words.size()));
+            final StringBuilder prefix = new StringBuilder(
+                    word.substring(0, random.nextInt(word.length() + 1)));
+            for (int extra = random.nextInt(3); extra > 0; extra--) {
+                prefix.append((char) ('a' + random.nextInt(26)));
+            }
+            final int trieNode = trie.find(prefix);
+            final int packedNode = packed.find(prefix);
+            Assertions.assertEquals(trieNode == PrefixIndex.NONE,
+                    packedNode == PrefixIndex.NONE, prefix::toString);
+            if (trieNode != PrefixIndex.NONE) {
+                Assertions.assertEquals(trie.isWord(trieNode), packed.isWord(packedNode),
+                        prefix::toString);
+            }
+            Assertions.assertEquals(trie.contains(prefix), packed.contains(prefix),
+                    prefix::toString);
+        }
+        for (final String name : List.of("data/grid4x4.txt", "data/grid6x6.txt")) {
+            final Grid grid = Grid.load(Path.of(name));
+            Assertions.assertEquals(new Solver(trie, StandardRule.EIGHT_WAY).solve(grid),
+                    new Solver(packed, StandardRule.EIGHT_WAY).solve(grid), name);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Tests changing cells and re-solving only what they affect.
+ *
+ * @author Patrick Rafferty
+ */
+public class ResolveTest {
+    /**
+     * The words in the dictionary.
+     */
+    private static List<String> words;
+    /**
+     * The dictionary as a trie.
+     */
+    private static ArrayTrie index;
+    
+    /**
+     * Loads the dictionary once for every test.
+     *
+     * @throws IOException if the dictionary can't be read
+     */
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        words = Files.readAllLines(Path.of("data/words.txt"));
+        index = ArrayTrie.of(words);
+    }
+    
+    /**
+     * Applies a delta to the words a test expects, checking it only adds new words and only
+     * removes or moves words that were there.
+     *
+     * @param known the words and paths from earlier deltas
+     * @param delta the delta to apply
+     */
+    private static void apply(Map<String, WordPath> known, WordDelta delta) {
+        if (delta.full()) {
+            known.clear();
+        }
+        for (final String word : delta.removed()) {
+            Assertions.assertNotNull(known.remove(word), word);
+        }
+        delta.moved().forEach((word, path) -> Assertions.assertNotNull(known.put(word, path)));
+        delta.added().forEach((word, path) -> Assertions.assertNull(known.put(word, path)));
+    }
+    
+    /**
+     * Checks that each path is a real path through the grid that spells its word.
+     *
+     * @param grid  the grid
+     * @param rule  the rule for which cells a word can move between
+     * @param known the words and paths to check
+     */
+    private static void assertPaths(Grid grid, NeighbourRule rule, Map<String, WordPath> known) {
+        final Adjacency adjacency = Adjacency.of(grid.rows(), grid.cols(), rule);
+        known.forEach((word, path) -> {
+            final int[] cells = path.cells();
+            final StringBuilder spelled = new StringBuilder();
+            for (int i = 0; i < cells.length; i++) {
+                spelled.append(grid.tile(cells[i] / grid.cols(), cells[i] % grid.cols()));
+                if (i > 0) {
+                    final int previous = cells[i - 1];
+                    final int cell = cells[i];
+                    Assertions.assertTrue(IntStream.range(adjacency.start(previous),
+                                    adjacency.end(previous))
+                            .anyMatch(neighbour -> adjacency.neighbour(neighbour) == cell), word);
+                }
+            }
+            Assertions.assertEquals(word, spelled.toString());
+            Assertions.assertEquals(cells.length, IntStream.of(cells).distinct().count(), word);
+        });
+    }
+    
+    /**
+     * Makes sure applying each delta gives exactly the words solving the changed grid finds, for
+     * single and batched changes, multi-letter tiles, a change of rule and a pre-filtered
+     * dictionary.
+     */
+    @Test
+    void matchesSolver() {
+        final SplittableRandom random = new SplittableRandom(2852);
+        final BoardGenerator generator = BoardGenerator.fromWords(words);
+        for (final int[] size : new int[][] {{4, 4}, {6, 6}, {5, 9}, {12, 12}}) {
+            Grid grid = generator.generate(size[0], size[1], random);
+            final GameBoard gameBoard = new GameBoard(index);
+            gameBoard.setPreFilter(size[0] == 6);
+            gameBoard.loadGrid(grid);
+            final Map<String, WordPath> known = new HashMap<>();
+            NeighbourRule rule = StandardRule.EIGHT_WAY;
+            final WordDelta first = gameBoard.resolve(rule);
+            Assertions.assertTrue(first.full());
+            apply(known, first);
+            for (int edit = 0; edit < 60; edit++) {
+                if (edit == 40) {
+                    rule = StandardRule.FOUR_WAY;
+                }
+                final int changes = edit % 5 == 4 ? 3 : 1;
+                for (int i = 0; i < changes; i++) {
+                    final int row = random.nextInt(grid.rows());
+                    final int col = random.nextInt(grid.cols());
+                    final String tile = edit % 20 == 7 ? "qu" :
+                            grid.tile(random.nextInt(grid.rows()), random.nextInt(grid.cols()));
+                    gameBoard.setCell(row, col, tile);
+                    grid = grid.withTile(row, col, tile);
+                }
+                final WordDelta delta = gameBoard.resolve(rule);
+                Assertions.assertFalse(delta.full());
+                apply(known, delta);
+                Assertions.assertEquals(new HashSet<>(new Solver(index, rule).solve(grid)),
+                        known.keySet(), grid::toString);
+                assertPaths(grid, rule, known);
+            }
+            Assertions.assertTrue(gameBoard.resolve(rule).isEmpty());
+        }
+    }
+    
+    /**
+     * Makes sure a change is found by paths that start further back along a rule that only goes
+     * one way, and that random changes still match solving the grid.
+     */
+    @Test
+    void oneWayRule() {
+        final NeighbourRule right = (row, col, rows, cols) ->
+                col + 1 < cols ? IntStream.of(row * cols + col + 1) : IntStream.empty();
+        final GameBoard gameBoard = new GameBoard(index);
+        gameBoard.loadGrid(Grid.of(List.of("xcxtxxxx")));
+        Assertions.assertTrue(gameBoard.resolve(right).added().isEmpty());
+        gameBoard.setCell(0, 2, "a");
+        final WordDelta delta = gameBoard.resolve(right);
+        Assertions.assertEquals(Set.of("cat"), delta.added().keySet());
+        Assertions.assertArrayEquals(new int[] {1, 2, 3}, delta.added().get("cat").cells());
+        // Right, down and down-right, the offsets being (0, 1), (1, 0) and (1, 1)
+        final NeighbourRule downRight = (row, col, rows, cols) -> IntStream.range(0, 3)
+                .filter(i -> StandardRule.inBounds(row + Math.min(i, 1), col + 1 - i % 2, rows,
+                        cols))
+                .map(i -> (row + Math.min(i, 1)) * cols + col + 1 - i % 2);
+        final SplittableRandom random = new SplittableRandom(2852);
+        Grid grid = BoardGenerator.fromWords(words).generate(7, 7, random);
+        final GameBoard randomBoard = new GameBoard(index);
+        randomBoard.loadGrid(grid);
+        final Map<String, WordPath> known = new HashMap<>();
+        apply(known, randomBoard.resolve(downRight));
+        for (int edit = 0; edit < 40; edit++) {
+            final int row = random.nextInt(grid.rows());
+            final int col = random.nextInt(grid.cols());
+            final String tile = grid.tile(random.nextInt(grid.rows()), random.nextInt(grid.cols()));
+            randomBoard.setCell(row, col, tile);
+            grid = grid.withTile(row, col, tile);
+            apply(known, randomBoard.resolve(downRight));
+            Assertions.assertEquals(new HashSet<>(new Solver(index, downRight).solve(grid)),
+                    known.keySet(), grid::toString);
+            assertPaths(grid, downRight, known);
+        }
+    }
+    
+    /**
+     * Makes sure editing a grid makes a new grid and leaves the old one alone.
+     */
+    @Test
+    void withTile() {
+        final Grid grid = Grid.of(List.of("abc", "def"));
+        final Grid changed = grid.withTile(1, 2, "X");
+        Assertions.assertEquals(Grid.of(List.of("abc", "dex")), changed);
+        Assertions.assertEquals('f', grid.letter(1, 2));
+        Assertions.assertSame(grid, grid.withTile(0, 0, "a"));
+        Assertions.assertEquals(Grid.of(List.of("[qu]bc", "def")), grid.withTile(0, 0, "Qu"));
+        Assertions.assertEquals(grid, grid.withTile(0, 0, "qu").withTile(0, 0, "a"));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> grid.withTile(2, 0, "a"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> grid.withTile(0, 0, ""));
+        final GameBoard setBoard = new GameBoard(new ArrayList<>());
+        setBoard.loadDictionary(words);
+        setBoard.loadGrid(grid);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> setBoard.resolve(StandardRule.EIGHT_WAY));
+    }
+}
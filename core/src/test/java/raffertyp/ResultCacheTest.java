@@ -0,0 +1,95 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tests caching the words found in grids.
+ *
+ * @author Patrick Rafferty
+ */
+public class ResultCacheTest {
+    /**
+     * Rotations and reflections of data/grid4x4.txt.
+     */
+    private static final List<List<String>> SQUARE_SYMMETRIES = List.of(
+            List.of("YPIN", "WTEF", "BAST", "MKOL"),
+            List.of("MBWY", "KATP", "OSEI", "LTFN"),
+            List.of("LOKM", "TSAB", "FETW", "NIPY"),
+            List.of("NFTL", "IESO", "PTAK", "YWBM"),
+            List.of("NIPY", "FETW", "TSAB", "LOKM"),
+            List.of("MKOL", "BAST", "WTEF", "YPIN"),
+            List.of("YWBM", "PTAK", "IESO", "NFTL"),
+            List.of("LTFN", "OSEI", "KATP", "MBWY"));
+    
+    /**
+     * Makes sure every rotation and reflection of a grid has the same canonical grid, and that
+     * rectangular grids keep their shape.
+     */
+    @Test
+    void canonical() {
+        final Grid canonical = Grid.of(SQUARE_SYMMETRIES.get(0)).canonical();
+        for (final List<String> rows : SQUARE_SYMMETRIES) {
+            Assertions.assertEquals(canonical, Grid.of(rows).canonical(), rows.toString());
+        }
+        Assertions.assertEquals(Grid.of(List.of("LOKM", "TSAB", "FETW", "NIPY")), canonical);
+        final Grid rectangle = Grid.of(List.of("BLN", "NOE")).canonical();
+        Assertions.assertEquals(2, rectangle.rows());
+        for (final List<String> rows : List.of(List.of("NLB", "EON"), List.of("NOE", "BLN"),
+                List.of("EON", "NLB"))) {
+            Assertions.assertEquals(rectangle, Grid.of(rows).canonical(), rows.toString());
+        }
+        Assertions.assertNotEquals(rectangle, Grid.of(List.of("BN", "LO", "NE")).canonical());
+    }
+    
+    /**
+     * Makes sure rotated boards hit the cache, and that the counters and evictions add up.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void cachedSearch() throws IOException {
+        final Set<String> expected =
+                Set.copyOf(Files.readAllLines(Path.of("data/testOutput/2000words8way4x4.txt")));
+        final ResultCache cache = new ResultCache(2);
+        final GameBoard gameBoard = new GameBoard(ArrayTrie.load(Path.of("data/2000words.txt")));
+        gameBoard.setResultCache(cache);
+        for (final List<String> rows : SQUARE_SYMMETRIES) {
+            gameBoard.loadGrid(Grid.of(rows));
+            Assertions.assertEquals(expected, gameBoard.findWords(false));
+        }
+        Assertions.assertEquals(1, cache.misses());
+        Assertions.assertEquals(7, cache.hits());
+        gameBoard.findWords(StandardRule.HEX);
+        gameBoard.loadGrid(Grid.of(SQUARE_SYMMETRIES.get(0)));
+        gameBoard.findWords(StandardRule.HEX);
+        Assertions.assertEquals(3, cache.misses());
+        Assertions.assertEquals(1, cache.evictions());
+        Assertions.assertEquals(2, cache.size());
+        
+        final GameBoard collectionBoard = new GameBoard(new TreeSet<>());
+        collectionBoard.loadDictionary(Path.of("data/2000words.txt"));
+        collectionBoard.setResultCache(cache);
+        collectionBoard.loadGrid(Path.of("data/grid4x4.txt"));
+        Assertions.assertEquals(expected, collectionBoard.findWords(false));
+        Assertions.assertEquals(4, cache.misses());
+        collectionBoard.loadDictionary(List.of("yptw"));
+        Assertions.assertTrue(collectionBoard.findWords(false).contains("yptw"));
+        Assertions.assertEquals(5, cache.misses());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ResultCache(0));
+    }
+}
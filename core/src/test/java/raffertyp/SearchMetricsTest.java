@@ -0,0 +1,97 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests counting what searches do.
+ *
+ * @author Patrick Rafferty
+ */
+public class SearchMetricsTest {
+    /**
+     * Engines that count what they do.
+     */
+    private static final SearchEngine[] COUNTING_ENGINES =
+            {SearchEngine.BITBOARD, SearchEngine.ITERATIVE};
+    
+    /**
+     * Makes sure a search small enough to follow by hand is counted right by each engine.
+     */
+    @Test
+    void countsByHand() {
+        final GameBoard gameBoard = new GameBoard(ArrayTrie.of(List.of("abc")));
+        gameBoard.loadGrid(Grid.of(List.of("abc")));
+        Assertions.assertNull(gameBoard.getMetrics());
+        gameBoard.setMetricsEnabled(true);
+        for (final SearchEngine engine : COUNTING_ENGINES) {
+            gameBoard.setSearchEngine(engine);
+            Assertions.assertEquals(Set.of("abc"), gameBoard.findWords(true));
+            final SearchMetrics metrics = gameBoard.getMetrics();
+            Assertions.assertEquals(3, metrics.nodesExpanded(), engine.toString());
+            Assertions.assertEquals(5, metrics.prefixProbes(), engine.toString());
+            Assertions.assertArrayEquals(new long[] {0, 2}, metrics.pruneHitsByDepth());
+            Assertions.assertArrayEquals(new long[] {0, 0, 0, 1}, metrics.deadEndsByDepth());
+            Assertions.assertEquals(0.4, metrics.pruneRate(), 1e-9);
+            Assertions.assertEquals(1, metrics.startCellWords(0));
+            Assertions.assertEquals(0, metrics.startCellWords(2));
+        }
+    }
+    
+    /**
+     * Makes sure every counting engine and streaming searches count the same things on a real
+     * grid, since they search the same paths in a different order.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void enginesAgree() throws IOException {
+        final GameBoard gameBoard = new GameBoard(ArrayTrie.load(Path.of("data/words.txt")));
+        gameBoard.loadGrid(Path.of("data/grid6x6.txt"));
+        gameBoard.setMetricsEnabled(true);
+        gameBoard.setSearchEngine(SearchEngine.ITERATIVE);
+        final int words = gameBoard.findWords(false).size();
+        final SearchMetrics expected = gameBoard.getMetrics();
+        Assertions.assertEquals(expected.prefixProbes(),
+                expected.nodesExpanded() + expected.pruneHits());
+        long startCellWords = 0;
+        for (int cell = 0; cell < expected.cellCount(); cell++) {
+            startCellWords += expected.startCellWords(cell);
+        }
+        Assertions.assertTrue(startCellWords >= words);
+        gameBoard.setSearchEngine(SearchEngine.BITBOARD);
+        gameBoard.findWords(false);
+        assertSameCounts(expected, gameBoard.getMetrics());
+        gameBoard.findWords(StandardRule.EIGHT_WAY, (word, path) -> { },
+                SearchControl.unlimited());
+        assertSameCounts(expected, gameBoard.getMetrics());
+    }
+    
+    /**
+     * Checks two searches were counted the same, other than their times.
+     *
+     * @param expected the metrics of the first search
+     * @param actual   the metrics of the second search
+     */
+    private static void assertSameCounts(SearchMetrics expected, SearchMetrics actual) {
+        Assertions.assertEquals(expected.nodesExpanded(), actual.nodesExpanded());
+        Assertions.assertEquals(expected.prefixProbes(), actual.prefixProbes());
+        Assertions.assertArrayEquals(expected.pruneHitsByDepth(), actual.pruneHitsByDepth());
+        Assertions.assertArrayEquals(expected.deadEndsByDepth(), actual.deadEndsByDepth());
+        for (int cell = 0; cell < expected.cellCount(); cell++) {
+            Assertions.assertEquals(expected.startCellWords(cell), actual.startCellWords(cell));
+        }
+    }
+}
@@ -17,8 +17,10 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Tests the search to make sure it is working.
@@ -38,14 +40,18 @@ public class SearchTest {
      * Array of Collection types to test.
      */
     private static final String[] COLLECTION_TYPES =
-            {"TreeSet", "ArrayList", "LinkedList", "LinkedHashSet"};
+            {"TreeSet", "ArrayList", "LinkedList", "LinkedHashSet", "Trie"};
+    /**
+     * Sizes of the grid files with expected output.
+     */
+    private static final String[] GRID_SIZES = {"2x2", "2x3", "3x3", "4x4", "6x6"};
     
     /**
      * Helper method to set up a GameBoard and find its words.
      *
      * @param isFourWay      if the four way ruleset should be used
      * @param gridPath       the path to the grid file
-     * @param collectionType the type of Collection to use
+     * @param collectionType the type of Collection to use, or Trie for a prefix index
      * @param dictionaryPath the path to the dictionary
      * @return the Set of words found on the board.
      * @throws IOException if there was a problem reading a file
@@ -53,15 +59,16 @@ public class SearchTest {
     private static Set<String> doFindWords(final boolean isFourWay, final String gridPath,
                                            final String collectionType, final Path dictionaryPath)
             throws IOException {
-        final GameBoard gameBoard = new GameBoard(switch (collectionType) {
-            case "ArrayList" -> new ArrayList<>(Files.readAllLines(dictionaryPath).size());
-            case "LinkedList" -> new LinkedList<>();
-            case "HashSet" -> HashSet.newHashSet(Files.readAllLines(dictionaryPath).size());
-            case "TreeSet" -> new TreeSet<>();
-            case "LinkedHashSet" ->
-                    LinkedHashSet.newLinkedHashSet(Files.readAllLines(dictionaryPath).size());
-            default -> throw new IllegalArgumentException(collectionType);
-        });
+        final GameBoard gameBoard = collectionType.equals("Trie") ? new GameBoard() :
+                new GameBoard(switch (collectionType) {
+                    case "ArrayList" -> new ArrayList<>(Files.readAllLines(dictionaryPath).size());
+                    case "LinkedList" -> new LinkedList<>();
+                    case "HashSet" -> HashSet.newHashSet(Files.readAllLines(dictionaryPath).size());
+                    case "TreeSet" -> new TreeSet<>();
+                    case "LinkedHashSet" -> LinkedHashSet.newLinkedHashSet(
+                            Files.readAllLines(dictionaryPath).size());
+                    default -> throw new IllegalArgumentException(collectionType);
+                });
         gameBoard.loadGrid(Path.of(gridPath));
         gameBoard.loadDictionary(dictionaryPath);
         return gameBoard.findWords(isFourWay);
@@ -161,4 +168,83 @@ public class SearchTest {
                     "Failed searching " + collectionType);
         }
     }
+    
+    /**
+     * Tests findWords with each search engine on a prefix index.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void searchEngines() throws IOException {
+        for (final Path dictionaryPath : new Path[] {TWO_K_DICTIONARY, WORDS_DICTIONARY}) {
+            final String dictionaryName =
+                    dictionaryPath.getFileName().toString().replace(".txt", "");
+            final GameBoard gameBoard = new GameBoard(ArrayTrie.load(dictionaryPath));
+            for (final SearchEngine engine : SearchEngine.values()) {
+                gameBoard.setSearchEngine(engine);
+                for (final String size : GRID_SIZES) {
+                    gameBoard.loadGrid(Path.of("data/grid" + size + ".txt"));
+                    Assertions.assertEquals(Set.copyOf(Files.readAllLines(
+                                    Path.of("data/testOutput/" + dictionaryName + "4way" + size +
+                                            ".txt"))), gameBoard.findWords(true),
+                            "Failed searching " + engine);
+                    Assertions.assertEquals(Set.copyOf(Files.readAllLines(
+                                    Path.of("data/testOutput/" + dictionaryName + "8way" + size +
+                                            ".txt"))), gameBoard.findWords(false),
+                            "Failed searching " + engine);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Makes sure the bitboard search finds the same words as the iterative search on grids at and
+     * past the 64 cell limit, where it falls back to the iterative search.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void bitboardLimit() throws IOException {
+        final GameBoard gameBoard = new GameBoard(ArrayTrie.load(WORDS_DICTIONARY));
+        final Random random = new Random(2852);
+        for (final int cols : new int[] {8, 9}) {
+            final char[] letters = new char[8 * cols];
+            for (int i = 0; i < letters.length; i++) {
+                letters[i] = (char) random.nextInt('a', 'z' + 1);
+            }
+            gameBoard.loadGrid(Grid.of(8, cols, letters));
+            for (final boolean isFourWay : new boolean[] {true, false}) {
+                gameBoard.setSearchEngine(SearchEngine.ITERATIVE);
+                final Set<String> expected = gameBoard.findWords(isFourWay);
+                gameBoard.setSearchEngine(SearchEngine.BITBOARD);
+                Assertions.assertEquals(expected, gameBoard.findWords(isFourWay),
+                        "Failed searching 8x" + cols);
+            }
+        }
+    }
+    
+    /**
+     * Tests the fork/join search with different split depths and pool sizes.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void forkJoinSplitting() throws IOException {
+        final GameBoard gameBoard = new GameBoard(ArrayTrie.load(WORDS_DICTIONARY));
+        gameBoard.setSearchEngine(SearchEngine.FORK_JOIN);
+        gameBoard.loadGrid(Path.of("data/grid6x6.txt"));
+        final Set<String> expected =
+                Set.copyOf(Files.readAllLines(Path.of("data/testOutput/words8way6x6.txt")));
+        for (int parallelism = 1; parallelism <= 4; parallelism *= 2) {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            gameBoard.setForkJoinPool(pool);
+            for (int splitDepth = 1; splitDepth <= 4; splitDepth++) {
+                gameBoard.setSplitDepth(splitDepth);
+                Assertions.assertEquals(expected, gameBoard.findWords(false),
+                        "Failed splitting at " + splitDepth + " with " + parallelism);
+            }
+            pool.shutdown();
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> gameBoard.setSplitDepth(0));
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests solving batches of grids with one Solver.
+ *
+ * @author Patrick Rafferty
+ */
+public class SolverTest {
+    /**
+     * Sizes of the grid files with expected output.
+     */
+    private static final String[] GRID_SIZES = {"2x2", "2x3", "3x3", "4x4", "6x6"};
+    
+    /**
+     * Makes sure a batch of grids is solved correctly and in order, even when each grid is
+     * repeated many times across threads.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void solveAll() throws IOException {
+        final Solver solver = Solver.load(Path.of("data/words.txt"), StandardRule.EIGHT_WAY);
+        final List<Grid> grids = new ArrayList<>();
+        final List<Set<String>> expected = new ArrayList<>();
+        for (int repeat = 0; repeat < 20; repeat++) {
+            for (final String size : GRID_SIZES) {
+                grids.add(Grid.load(Path.of("data/grid" + size + ".txt")));
+                expected.add(Set.copyOf(Files.readAllLines(
+                        Path.of("data/testOutput/words8way" + size + ".txt"))));
+            }
+        }
+        final List<Set<String>> found = solver.solveAll(grids.stream()).toList();
+        Assertions.assertEquals(expected, found.stream().map(Set::copyOf).toList());
+        Assertions.assertEquals(expected, solver.solveAll(grids.iterator()).map(Set::copyOf)
+                .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Makes sure grids are read the same way from files and lines, and bad grids are rejected.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void grids() throws IOException {
+        final Grid grid = Grid.load(Path.of("data/grid2x3.txt"));
+        Assertions.assertEquals(2, grid.rows());
+        Assertions.assertEquals(3, grid.cols());
+        Assertions.assertEquals(Grid.of(List.of("BLN", "NOE")), grid);
+        Assertions.assertEquals(Grid.of(2, 3, "blnnoe".toCharArray()), grid);
+        Assertions.assertEquals("bln\nnoe\n", grid.toString());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Grid.of(List.of("ab", "c")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Grid.of(List.of()));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tests reporting words as they are found, and stopping searches early.
+ *
+ * @author Patrick Rafferty
+ */
+public class StreamingSearchTest {
+    /**
+     * Dictionary shared by every test.
+     */
+    private static ArrayTrie trie;
+    
+    /**
+     * Builds the dictionary.
+     *
+     * @throws IOException if there was a problem reading the word list
+     */
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        trie = ArrayTrie.load(Path.of("data/words.txt"));
+    }
+    
+    /**
+     * Makes sure every word is reported exactly once, along a path that spells it.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void streamsEveryWord() throws IOException {
+        for (final String size : List.of("2x2", "3x3", "4x4", "6x6")) {
+            final Grid grid = Grid.load(Path.of("data/grid" + size + ".txt"));
+            final GameBoard board = new GameBoard(trie);
+            board.loadGrid(grid);
+            final Map<String, int[]> found = new ConcurrentHashMap<>();
+            final SearchControl control = SearchControl.unlimited();
+            board.findWords(StandardRule.EIGHT_WAY, (word, path) ->
+                    Assertions.assertNull(found.put(word, path), word), control);
+            Assertions.assertEquals(Set.copyOf(Files.readAllLines(
+                    Path.of("data/testOutput/words8way" + size + ".txt"))), found.keySet());
+            Assertions.assertEquals(found.size(), control.wordCount());
+            found.forEach((word, path) -> assertPath(grid, word, path));
+        }
+    }
+    
+    /**
+     * Makes sure searches stop once they reach their word limit, run out of time or are
+     * cancelled.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void stopsEarly() throws IOException {
+        final GameBoard board = new GameBoard(trie);
+        board.loadGrid(Path.of("data/grid6x6.txt"));
+        final Set<String> found = ConcurrentHashMap.newKeySet();
+        final SearchControl limited = SearchControl.of(null, 5);
+        board.findWords(StandardRule.EIGHT_WAY, (word, path) -> found.add(word), limited);
+        Assertions.assertEquals(5, found.size());
+        Assertions.assertEquals(5, limited.wordCount());
+        Assertions.assertTrue(limited.isStopped());
+        
+        found.clear();
+        board.findWords(StandardRule.EIGHT_WAY, (word, path) -> found.add(word),
+                SearchControl.of(Duration.ZERO, Long.MAX_VALUE));
+        Assertions.assertEquals(Set.of(), found);
+        
+        found.clear();
+        final SearchControl cancelled = SearchControl.unlimited();
+        board.findWords(StandardRule.EIGHT_WAY, (word, path) -> {
+            found.add(word);
+            cancelled.cancel();
+        }, cancelled);
+        Assertions.assertTrue(cancelled.isStopped());
+        Assertions.assertTrue(found.size() < Files.readAllLines(
+                Path.of("data/testOutput/words8way6x6.txt")).size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SearchControl.of(null, -1));
+    }
+    
+    /**
+     * Checks a path spells a word through distinct, neighbouring cells.
+     *
+     * @param grid the grid searched
+     * @param word the word reported
+     * @param path the path reported for it
+     */
+    private static void assertPath(Grid grid, String word, int[] path) {
+        Assertions.assertEquals(word.length(), path.length, word);
+        final Adjacency adjacency = Adjacency.of(grid.rows(), grid.cols(),
+                StandardRule.EIGHT_WAY);
+        for (int i = 0; i < path.length; i++) {
+            Assertions.assertEquals(word.charAt(i),
+                    grid.letter(path[i] / grid.cols(), path[i] % grid.cols()), word);
+            for (int j = 0; j < i; j++) {
+                Assertions.assertNotEquals(path[j], path[i], word);
+            }
+            if (i > 0) {
+                boolean adjacent = false;
+                for (int k = adjacency.start(path[i - 1]); k < adjacency.end(path[i - 1]); k++) {
+                    adjacent |= adjacency.neighbour(k) == path[i];
+                }
+                Assertions.assertTrue(adjacent, word);
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tests grids with multi-letter tiles like Qu.
+ *
+ * @author Patrick Rafferty
+ */
+public class TileTest {
+    /**
+     * Dictionary shared by every test.
+     */
+    private static ArrayTrie trie;
+    
+    /**
+     * Builds the dictionary.
+     *
+     * @throws IOException if there was a problem reading the word list
+     */
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        trie = ArrayTrie.load(Path.of("data/words.txt"));
+    }
+    
+    /**
+     * Helper method to read the expected words for a Qu grid.
+     *
+     * @param rules the rule set name
+     * @param size  the size of the grid
+     * @return the expected words
+     * @throws IOException if there was a problem reading the file
+     */
+    private static Set<String> expected(final String rules, final String size)
+            throws IOException {
+        return new TreeSet<>(Files.readAllLines(
+                Path.of("data/testOutput/words" + rules + "Qu" + size + ".txt")));
+    }
+    
+    /**
+     * Makes sure tiles in brackets are read as one cell and written back the same way.
+     */
+    @Test
+    void parsing() {
+        final Grid grid = Grid.of(List.of("[Qu]iE", "a[TH]b"));
+        Assertions.assertEquals(2, grid.rows());
+        Assertions.assertEquals(3, grid.cols());
+        Assertions.assertEquals("qu", grid.tile(0, 0));
+        Assertions.assertEquals("e", grid.tile(0, 2));
+        Assertions.assertEquals("th", grid.tile(1, 1));
+        Assertions.assertEquals(List.of("qu", "th"), grid.tiles().tiles());
+        Assertions.assertEquals("[qu]ie\na[th]b\n", grid.toString());
+        Assertions.assertEquals(grid, Grid.of(grid.toString().lines().toList()));
+        Assertions.assertEquals(grid, Grid.ofTiles(2, 3, List.of("QU", "i", "e", "a", "th", "b")));
+        Assertions.assertNotEquals(grid, Grid.of(List.of("quie", "athb")));
+        Assertions.assertEquals("quiet", grid.tiles().expand(
+                String.valueOf(grid.letter(0, 0)) + "iet"));
+        Assertions.assertEquals(TileTable.EMPTY, Grid.of(List.of("a[b]")).tiles());
+        
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Grid.of(List.of("a[qu")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Grid.of(List.of("a[]")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Grid.of(List.of("[qu]b", "abc")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> grid.tiles().code("in"));
+    }
+    
+    /**
+     * Makes sure every search engine finds the expected words on Qu grids.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void engines() throws IOException {
+        for (final String size : List.of("4x4", "6x6")) {
+            final Grid grid = Grid.load(Path.of("data/gridQu" + size + ".txt"));
+            for (final StandardRule rule : List.of(StandardRule.FOUR_WAY,
+                    StandardRule.EIGHT_WAY)) {
+                final Set<String> expected =
+                        expected(rule == StandardRule.FOUR_WAY ? "4way" : "8way", size);
+                for (final SearchEngine engine : SearchEngine.values()) {
+                    final GameBoard board = new GameBoard(trie);
+                    board.setSearchEngine(engine);
+                    board.loadGrid(grid);
+                    Assertions.assertEquals(expected, new TreeSet<>(board.findWords(rule)),
+                            size + " " + rule + " " + engine);
+                    board.setPreFilter(true);
+                    Assertions.assertEquals(expected, new TreeSet<>(board.findWords(rule)),
+                            size + " " + rule + " " + engine + " filtered");
+                }
+                Assertions.assertEquals(expected,
+                        new TreeSet<>(new Solver(trie, rule).solve(grid)));
+                Assertions.assertEquals(expected,
+                        new TreeSet<>(new Solver(trie, rule).solve(grid.canonical())));
+            }
+        }
+        final GameBoard board = new GameBoard(new TreeSet<>());
+        board.loadDictionary(Path.of("data/words.txt"));
+        board.loadGrid(Path.of("data/gridQu4x4.txt"));
+        Assertions.assertEquals(expected("8way", "4x4"),
+                new TreeSet<>(board.findWords(StandardRule.EIGHT_WAY)));
+    }
+    
+    /**
+     * Makes sure streamed words, paths and claims spell out tiles.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void pathsAndClaims() throws IOException {
+        final Grid grid = Grid.load(Path.of("data/gridQu6x6.txt"));
+        final Set<String> expected = expected("8way", "6x6");
+        final GameBoard board = new GameBoard(trie);
+        board.loadGrid(grid);
+        
+        final Map<String, int[]> streamed = new ConcurrentHashMap<>();
+        board.findWords(StandardRule.EIGHT_WAY,
+                (word, path) -> Assertions.assertNull(streamed.put(word, path), word),
+                SearchControl.unlimited());
+        Assertions.assertEquals(expected, new TreeSet<>(streamed.keySet()));
+        final Map<String, int[]> solved = new ConcurrentHashMap<>();
+        new Solver(trie, StandardRule.EIGHT_WAY).solve(grid, solved::put);
+        Assertions.assertEquals(expected, new TreeSet<>(solved.keySet()));
+        
+        final Map<String, WordPath> paths = board.findPaths(StandardRule.EIGHT_WAY);
+        Assertions.assertEquals(expected, new TreeSet<>(paths.keySet()));
+        for (final WordPath path : paths.values()) {
+            Assertions.assertEquals(path.word(), spell(grid, path.cells()));
+            Assertions.assertEquals(path.word(), spell(grid, streamed.get(path.word())));
+        }
+        
+        final Map<String, Claim> claims = board.validate(
+                List.of("the", "qua", "QUIET", "quiter", "th"));
+        Assertions.assertTrue(claims.get("the").isValid());
+        Assertions.assertEquals(2, claims.get("the").path().length());
+        Assertions.assertTrue(claims.get("qua").isValid());
+        Assertions.assertEquals(expected.contains("quiet"), claims.get("QUIET").isValid());
+        Assertions.assertEquals(Claim.Status.NOT_A_WORD, claims.get("quiter").status());
+        Assertions.assertEquals(Claim.Status.TOO_SHORT, claims.get("th").status());
+        for (final String word : expected) {
+            Assertions.assertTrue(board.validate(List.of(word)).get(word).isValid(), word);
+        }
+    }
+    
+    /**
+     * Makes sure a word spelled both with a tile and with single letters only counts once
+     * against the word limit.
+     */
+    @Test
+    void countsSpelledOutWords() {
+        final GameBoard board = new GameBoard(trie);
+        board.loadGrid(Grid.of(List.of("[qu]iet", "quie")));
+        final Map<String, int[]> streamed = new ConcurrentHashMap<>();
+        final SearchControl unlimited = SearchControl.unlimited();
+        board.findWords(StandardRule.EIGHT_WAY,
+                (word, path) -> Assertions.assertNull(streamed.put(word, path), word), unlimited);
+        Assertions.assertTrue(streamed.containsKey("quiet"));
+        Assertions.assertEquals(streamed.size(), unlimited.wordCount());
+        
+        final Set<String> limited = ConcurrentHashMap.newKeySet();
+        final SearchControl control = SearchControl.of(null, streamed.size());
+        board.findWords(StandardRule.EIGHT_WAY, (word, path) -> limited.add(word), control);
+        Assertions.assertEquals(streamed.keySet(), limited);
+    }
+    
+    /**
+     * Helper method to spell out the letters along a path.
+     *
+     * @param grid  the grid
+     * @param cells the ids of the cells in the path
+     * @return the letters of the cells, with tiles spelled out
+     */
+    private static String spell(final Grid grid, final int[] cells) {
+        final StringBuilder word = new StringBuilder();
+        for (final int cell : cells) {
+            word.append(grid.tile(cell / grid.cols(), cell % grid.cols()));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Tests searching large grids a tile at a time.
+ *
+ * @author Patrick Rafferty
+ */
+public class TiledSolverTest {
+    /**
+     * The dictionary to search with.
+     */
+    private static ArrayTrie index;
+    
+    /**
+     * Loads the dictionary once for every test.
+     *
+     * @throws IOException if the dictionary can't be read
+     */
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        index = ArrayTrie.load(Path.of("data/words.txt"));
+    }
+    
+    /**
+     * Makes sure searching in tiles finds exactly the words searching the whole grid does, for
+     * tiles much smaller than the halo and tiles bigger than the grid.
+     */
+    @Test
+    void matchesSolver() {
+        final Grid grid = BoardGenerator.fromWords(List.of("etaoinshrdlucmfwypvbgkqjxz",
+                "eeeeaaaattoonniissrrhhl")).generate(41, 37, new SplittableRandom(2852));
+        final byte[] bytes = new byte[grid.cellCount()];
+        for (int cell = 0; cell < bytes.length; cell++) {
+            bytes[cell] = (byte) grid.letter(cell / 37, cell % 37);
+        }
+        final LargeGrid largeGrid = LargeGrid.of(41, 37, bytes);
+        for (final StandardRule rule : List.of(StandardRule.FOUR_WAY, StandardRule.EIGHT_WAY,
+                StandardRule.HEX, StandardRule.KNIGHT)) {
+            final Set<String> expected = new Solver(index, rule).solve(grid);
+            final TiledSolver solver = new TiledSolver(index, rule);
+            for (final int tileSize : new int[] {1, 5, 16, 100}) {
+                solver.setTileSize(tileSize);
+                Assertions.assertEquals(expected, solver.solve(largeGrid),
+                        rule + " in tiles of " + tileSize);
+            }
+        }
+        Assertions.assertEquals(index.longestWordLength() - 1,
+                new TiledSolver(index, StandardRule.EIGHT_WAY).halo());
+        Assertions.assertEquals(2 * (index.longestWordLength() - 1),
+                new TiledSolver(index, StandardRule.KNIGHT).halo());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TiledSolver(index, StandardRule.TOROIDAL));
+    }
+    
+    /**
+     * Makes sure a mapped grid file reads the same as the grid it was written from, with either
+     * line ending, and that ragged files are rejected.
+     *
+     * @param directory where to write the grid files
+     * @throws IOException if a grid file can't be written or read
+     */
+    @Test
+    void mapped(@TempDir Path directory) throws IOException {
+        final Grid grid = Grid.load(Path.of("data/grid6x6.txt"));
+        final Path unix = directory.resolve("unix.txt");
+        final Path windows = directory.resolve("windows.txt");
+        final Path ragged = directory.resolve("ragged.txt");
+        Files.writeString(unix, grid.toString().toUpperCase(), StandardCharsets.US_ASCII);
+        Files.writeString(windows, grid.toString().strip().replace("\n", "\r\n"),
+                StandardCharsets.US_ASCII);
+        Files.writeString(ragged, "abc\nde\nfgh\n", StandardCharsets.US_ASCII);
+        final Set<String> expected = new Solver(index, StandardRule.EIGHT_WAY).solve(grid);
+        for (final Path path : List.of(unix, windows)) {
+            final LargeGrid largeGrid = LargeGrid.map(path);
+            Assertions.assertEquals(6, largeGrid.rows());
+            Assertions.assertEquals(6, largeGrid.cols());
+            for (int cell = 0; cell < 36; cell++) {
+                Assertions.assertEquals(grid.letter(cell / 6, cell % 6),
+                        largeGrid.letter(cell / 6, cell % 6));
+            }
+            final TiledSolver solver = new TiledSolver(index, StandardRule.EIGHT_WAY);
+            solver.setTileSize(2);
+            Assertions.assertEquals(expected, solver.solve(largeGrid));
+        }
+        Assertions.assertThrows(IOException.class, () -> LargeGrid.map(ragged));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> LargeGrid.map(unix).letter(6, 0));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests encoding word paths and finding them in grids.
+ *
+ * @author Patrick Rafferty
+ */
+public class WordPathTest {
+    /**
+     * Makes sure paths decode to the cells they were made from, and small steps take a byte.
+     */
+    @Test
+    void encoding() {
+        final WordPath path = WordPath.of("bone", 5, 0, 1, 6);
+        Assertions.assertArrayEquals(new int[]{5, 0, 1, 6}, path.cells());
+        Assertions.assertEquals(4, path.length());
+        Assertions.assertEquals(4, path.encodedSize());
+        Assertions.assertTrue(path.contains(6));
+        Assertions.assertFalse(path.contains(2));
+        Assertions.assertEquals("bone [5, 0, 1, 6]", path.toString());
+        Assertions.assertEquals(path, WordPath.of("bone", new int[]{5, 0, 1, 6, 9}, 4));
+        Assertions.assertNotEquals(path, WordPath.of("bone", 5, 0, 1, 2));
+        
+        final int[] far = {0, 1_000_000, 999_000, 1_000, 2_000_000_000, 63};
+        Assertions.assertArrayEquals(far, WordPath.of("far", far).cells());
+        Assertions.assertEquals(0, WordPath.of("").encodedSize());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> WordPath.of("no", -1));
+    }
+    
+    /**
+     * Makes sure every word is found with a path that spells it, and the same paths are found
+     * every time.
+     *
+     * @throws IOException if there was a problem reading a file
+     */
+    @Test
+    void findPaths() throws IOException {
+        final ArrayTrie trie = ArrayTrie.load(Path.of("data/words.txt"));
+        for (final String size : List.of("2x2", "3x3", "4x4", "6x6")) {
+            final Grid grid = Grid.load(Path.of("data/grid" + size + ".txt"));
+            final GameBoard board = new GameBoard(trie);
+            board.loadGrid(grid);
+            final Map<String, WordPath> paths = board.findPaths(StandardRule.EIGHT_WAY);
+            Assertions.assertEquals(Set.copyOf(Files.readAllLines(
+                    Path.of("data/testOutput/words8way" + size + ".txt"))), paths.keySet());
+            Assertions.assertEquals(paths, board.findPaths(StandardRule.EIGHT_WAY));
+            final Adjacency adjacency = Adjacency.of(grid.rows(), grid.cols(),
+                    StandardRule.EIGHT_WAY);
+            paths.forEach((word, path) -> {
+                Assertions.assertEquals(word, path.word());
+                final int[] cells = path.cells();
+                Assertions.assertEquals(word.length(), cells.length, word);
+                Assertions.assertEquals(cells.length, path.encodedSize(), word);
+                for (int i = 0; i < cells.length; i++) {
+                    Assertions.assertEquals(word.charAt(i),
+                            grid.letter(cells[i] / grid.cols(), cells[i] % grid.cols()), word);
+                    for (int j = 0; j < i; j++) {
+                        Assertions.assertNotEquals(cells[j], cells[i], word);
+                    }
+                    if (i > 0) {
+                        boolean adjacent = false;
+                        for (int k = adjacency.start(cells[i - 1]);
+                             k < adjacency.end(cells[i - 1]); k++) {
+                            adjacent |= adjacency.neighbour(k) == cells[i];
+                        }
+                        Assertions.assertTrue(adjacent, word);
+                    }
+                }
+            });
+        }
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> new GameBoard(List.of("bone")).findPaths(StandardRule.EIGHT_WAY));
+    }
+}
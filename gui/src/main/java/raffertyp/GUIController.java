@@ -0,0 +1,453 @@
+package raffertyp;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.RadioButton;
+import javafx.scene.control.TextField;
+import javafx.scene.control.TextInputDialog;
+import javafx.scene.control.ToggleGroup;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.random.RandomGenerator;
+
+/**
+ * The GUIController class is responsible for controlling the graphical user interface of the word
+ * search application. It handles the user's interactions with the GUI elements and performs the
+ * necessary actions to generate a word search grid, load a grid file, search for words in the grid,
+ * and display the results.
+ *
+ * @author Patrick Rafferty
+ */
+public class GUIController {
+    /**
+     * A constant variable for a file chooser extension filter for text files.
+     *
+     * <p>
+     * The filter allows only files with the ".txt" extension to be selected in a file chooser
+     * dialog.
+     * </p>
+     */
+    private static final FileChooser.ExtensionFilter TXT_FILTER =
+            new FileChooser.ExtensionFilter("Grid file", "*.txt");
+    /**
+     * Dictionary made by {@link DictionaryCompiler}, mapped instead of reading the word list if it
+     * exists.
+     */
+    private static final Path COMPILED_DICTIONARY = Path.of("data/words.trie");
+    /**
+     * Style of a grid cell on the path of the selected word.
+     */
+    private static final String HIGHLIGHT = "-fx-background-color: gold;";
+    /**
+     * Where the randomness for generated grids comes from.
+     */
+    private final RandomGenerator random = new SplittableRandom();
+    /**
+     * Rolls the 16 dice of the 4x4 game for small generated grids.
+     */
+    private final BoardGenerator smallDice = BoardGenerator.of(DiceSet.NEW);
+    /**
+     * Rolls the 25 dice of Big Boggle for generated grids with more than 16 cells.
+     */
+    private final BoardGenerator bigDice = BoardGenerator.of(DiceSet.BIG);
+    /**
+     * Displays a visual representation of the GameBoard.
+     */
+    @FXML
+    private GridPane gridPane;
+    /**
+     * Displays the list of found words.
+     */
+    @FXML
+    private VBox wordList;
+    /**
+     * Input for how many columns a generated board should have.
+     */
+    @FXML
+    private TextField widthInput;
+    /**
+     * Input for how many rows a generated board should have.
+     */
+    @FXML
+    private TextField heightInput;
+    /**
+     * Used for the two different rulesets.
+     */
+    @FXML
+    private ToggleGroup rules;
+    /**
+     * Represents a radio button for four-way ruleset.
+     */
+    @FXML
+    private RadioButton fourway;
+    /**
+     * File of the current board being used.
+     */
+    private File file;
+    /**
+     * Used for selecting a board to load.
+     */
+    private FileChooser fileChooser;
+    /**
+     * The main stage for this application.
+     */
+    @FXML
+    private Stage stage;
+    /**
+     * The GameBoard runs the logic for loading and searching.
+     */
+    private GameBoard gameBoard;
+    /**
+     * Used to show the search time.
+     */
+    @FXML
+    private Label time;
+    /**
+     * Used to show the word count.
+     */
+    @FXML
+    private Label wordCount;
+    /**
+     * Used to show what the search did.
+     */
+    @FXML
+    private Label metrics;
+    /**
+     * Controls the search that is running, or the last one that ran.
+     */
+    private SearchControl control = SearchControl.unlimited();
+    /**
+     * The last work queued on the game board. The board isn't thread safe, so searches, edits and
+     * loading grids each wait for the work before them.
+     */
+    private CompletableFuture<Void> boardWork = CompletableFuture.completedFuture(null);
+    /**
+     * The label showing each grid cell, indexed by cell id.
+     */
+    private Label[] cellLabels = new Label[0];
+    /**
+     * The path highlighted in the grid, null if none is.
+     */
+    private WordPath highlighted;
+    /**
+     * The label showing each found word, keyed by word.
+     */
+    private final Map<String, Label> wordLabels = new HashMap<>();
+    /**
+     * If a cell has been changed since the grid was shown, so searches only re-search what the
+     * changes affect.
+     */
+    private boolean edited;
+    
+    /**
+     * Initializes the game by setting up the file chooser, loading the dictionary file, and
+     * creating a new game board. A compiled dictionary is used if there is one.
+     *
+     * @throws IOException if there was a problem reading the dictionary.
+     */
+    public void initialize() throws IOException {
+        fileChooser = new FileChooser();
+        fileChooser.setSelectedExtensionFilter(TXT_FILTER);
+        fileChooser.setTitle("Load Grid File");
+        if (Files.exists(COMPILED_DICTIONARY)) {
+            gameBoard = new GameBoard(MappedTrie.map(COMPILED_DICTIONARY));
+        } else {
+            gameBoard = new GameBoard();
+            gameBoard.loadDictionary(Path.of("data/words.txt"));
+        }
+        gameBoard.setMetricsEnabled(true);
+    }
+    
+    /**
+     * Generates a new grid for the game based on the specified width and height by rolling Boggle
+     * dice, the Big Boggle set for grids of more than 16 cells. Grids bigger than the set roll it
+     * more than once.
+     *
+     * @throws NumberFormatException if the width or height is not a positive integer.
+     */
+    @FXML
+    private void generate() {
+        try {
+            int width = Integer.parseInt(widthInput.getText());
+            int height = Integer.parseInt(heightInput.getText());
+            if (width <= 0 || height <= 0) {
+                throw new NumberFormatException("Input was negative");
+            }
+            BoardGenerator generator = width * height > DiceSet.NEW.size() ? bigDice : smallDice;
+            showGrid(generator.generate(height, width, random));
+        } catch (NumberFormatException e) {
+            new Alert(Alert.AlertType.ERROR, "Width and height must be positive integers").show();
+        }
+    }
+    
+    /**
+     * Loads a grid from the chosen file into the game board.
+     */
+    private void loadFile() {
+        try {
+            showGrid(Grid.load(file.toPath()));
+        } catch (IOException e) {
+            new Alert(Alert.AlertType.ERROR, "Problem reading file.").show();
+        } catch (IllegalArgumentException e) {
+            new Alert(Alert.AlertType.ERROR, "Not a grid: " + e.getMessage()).show();
+        }
+    }
+    
+    /**
+     * Loads a grid into the game board and displays it on the UI as a grid of labels. Any search
+     * that is still running is stopped first.
+     *
+     * @param grid the grid to show
+     */
+    private void showGrid(Grid grid) {
+        stopSearch();
+        gridPane.getChildren().clear();
+        for (int row = 0; row < grid.rows(); row++) {
+            gridPane.addRow(row);
+        }
+        for (int col = 0; col < grid.cols(); col++) {
+            gridPane.addColumn(col);
+        }
+        cellLabels = new Label[grid.cellCount()];
+        highlighted = null;
+        edited = false;
+        for (int row = 0; row < grid.rows(); row++) {
+            for (int col = 0; col < grid.cols(); col++) {
+                Label cell = new Label(cellText(grid.tile(row, col)));
+                int cellRow = row;
+                int cellCol = col;
+                cell.setOnMouseClicked(event -> editCell(cell, cellRow, cellCol));
+                cellLabels[row * grid.cols() + col] = cell;
+                gridPane.add(cell, col, row);
+            }
+        }
+        queue(() -> gameBoard.loadGrid(grid), Platform::runLater);
+    }
+    
+    /**
+     * Helper to stop the search that is running and replace its control, so anything it still
+     * has queued for the UI sees it is no longer the current search.
+     */
+    private void stopSearch() {
+        control.cancel();
+        control = SearchControl.unlimited();
+    }
+    
+    /**
+     * Helper to run work on the game board once the work already queued on it is done, even if
+     * that failed.
+     *
+     * @param work     the work to run
+     * @param executor where to run it, Platform::runLater for work that updates the UI
+     * @return completes when the work is done
+     */
+    private CompletableFuture<Void> queue(Runnable work, Executor executor) {
+        boardWork = boardWork.handle((ignored, e) -> null).thenRunAsync(work, executor);
+        return boardWork;
+    }
+    
+    /**
+     * Helper to show a tile like the dice do, so multi-letter tiles show as Qu.
+     *
+     * @param tile the letters on the tile
+     * @return the text to show
+     */
+    private static String cellText(String tile) {
+        return Character.toUpperCase(tile.charAt(0)) + tile.substring(1);
+    }
+    
+    /**
+     * Asks for new letters for a cell and puts them on the game board. The next search only
+     * re-searches the words the change can affect.
+     *
+     * @param cell the label showing the cell
+     * @param row  the row of the cell
+     * @param col  the column of the cell
+     */
+    private void editCell(Label cell, int row, int col) {
+        TextInputDialog dialog = new TextInputDialog(cell.getText());
+        dialog.setHeaderText("Letters for row " + (row + 1) + ", column " + (col + 1));
+        dialog.showAndWait().map(String::strip).ifPresent(tile -> {
+            stopSearch();
+            queue(() -> {
+                try {
+                    gameBoard.setCell(row, col, tile);
+                    highlight(null);
+                    cell.setText(cellText(tile.toLowerCase()));
+                    edited = true;
+                } catch (IllegalArgumentException e) {
+                    new Alert(Alert.AlertType.ERROR, "Not a tile: " + e.getMessage()).show();
+                }
+            }, Platform::runLater);
+        });
+    }
+    
+    /**
+     * Helper to make the label for a found word. Clicking it highlights the word's path.
+     *
+     * @param path the word and its path
+     * @return the label
+     */
+    private Label wordLabel(WordPath path) {
+        Label label = new Label(path.word());
+        label.setOnMouseClicked(event -> highlight(path));
+        wordLabels.put(path.word(), label);
+        return label;
+    }
+    
+    /**
+     * Starts a search for words on the game board based on the selected search rules. The search
+     * runs in the background and found words are added to the UI in a list of labels as they come
+     * in. Clicking a found word highlights its path in the grid. Any search that is still
+     * running is stopped first. Once a cell has been changed, searches only update the words the
+     * changes affect instead.
+     */
+    @FXML
+    private void search() {
+        NeighbourRule rule = rules.getSelectedToggle().equals(fourway) ?
+                StandardRule.FOUR_WAY : StandardRule.EIGHT_WAY;
+        if (edited) {
+            resolve(rule);
+            return;
+        }
+        stopSearch();
+        SearchControl searchControl = control;
+        wordList.getChildren().clear();
+        wordLabels.clear();
+        time.setText("Time: ");
+        wordCount.setText("Words: ");
+        metrics.setText("");
+        highlight(null);
+        Queue<WordPath> found = new ConcurrentLinkedQueue<>();
+        AtomicBoolean drainQueued = new AtomicBoolean();
+        Runnable drain = () -> {
+            drainQueued.set(false);
+            for (WordPath path = found.poll(); path != null; path = found.poll()) {
+                if (control == searchControl) {
+                    wordList.getChildren().add(wordLabel(path));
+                }
+            }
+        };
+        Instant start = Instant.now();
+        queue(() -> gameBoard.findWords(rule, (word, path) -> {
+            found.add(WordPath.of(word, path));
+            if (!drainQueued.getAndSet(true)) {
+                Platform.runLater(drain);
+            }
+        }, searchControl), ForkJoinPool.commonPool()).whenComplete((ignored, e) -> {
+            Duration runTime = Duration.between(start, Instant.now());
+            Platform.runLater(() -> {
+                drain.run();
+                if (control != searchControl) {
+                    return;
+                }
+                if (e != null) {
+                    new Alert(Alert.AlertType.ERROR, "Search failed: " + e.getMessage()).show();
+                }
+                time.setText("Time: " + runTime.toSeconds() + '.' + runTime.toNanosPart() +
+                        " seconds");
+                wordCount.setText("Words: " + searchControl.wordCount());
+                metrics.setText(String.valueOf(gameBoard.getMetrics()));
+            });
+        });
+    }
+    
+    /**
+     * Updates the found words after cells were changed, removing the words that are gone and
+     * adding the new ones. The first update after a grid is shown searches it whole and replaces
+     * the list. Updates are small enough to run on the UI thread, once any search still running
+     * has stopped.
+     *
+     * @param rule the rule for which cells a word can move between
+     */
+    private void resolve(NeighbourRule rule) {
+        stopSearch();
+        highlight(null);
+        queue(() -> showDelta(rule), Platform::runLater);
+    }
+    
+    /**
+     * Helper to update the found words after cells were changed, on the UI thread.
+     *
+     * @param rule the rule for which cells a word can move between
+     */
+    private void showDelta(NeighbourRule rule) {
+        Instant start = Instant.now();
+        WordDelta delta = gameBoard.resolve(rule);
+        Duration runTime = Duration.between(start, Instant.now());
+        if (delta.full()) {
+            wordList.getChildren().clear();
+            wordLabels.clear();
+        }
+        for (String word : delta.removed()) {
+            wordList.getChildren().remove(wordLabels.remove(word));
+        }
+        delta.moved().values().forEach(path ->
+                wordLabels.get(path.word()).setOnMouseClicked(event -> highlight(path)));
+        delta.added().values().forEach(path -> wordList.getChildren().add(wordLabel(path)));
+        time.setText("Time: " + runTime.toSeconds() + '.' + runTime.toNanosPart() + " seconds");
+        wordCount.setText("Words: " + wordLabels.size() + " (+" + delta.added().size() + ", -" +
+                delta.removed().size() + ")");
+        metrics.setText(String.valueOf(gameBoard.getMetrics()));
+    }
+    
+    /**
+     * Highlights the cells of a word's path in the grid, clearing the last highlighted path.
+     * Highlighting the path that is already highlighted clears it.
+     *
+     * @param path the path to highlight, or null to just clear the highlight
+     */
+    private void highlight(WordPath path) {
+        if (highlighted != null) {
+            for (int cell : highlighted.cells()) {
+                cellLabels[cell].setStyle("");
+            }
+        }
+        highlighted = path == null || path.equals(highlighted) ? null : path;
+        if (highlighted != null) {
+            for (int cell : highlighted.cells()) {
+                cellLabels[cell].setStyle(HIGHLIGHT);
+            }
+        }
+    }
+    
+    /**
+     * Stops the search that is running, keeping the words it has found so far.
+     */
+    @FXML
+    private void stop() {
+        control.cancel();
+    }
+    
+    /**
+     * Opens a file chooser dialog for the user to select a file to load. If a file is selected, the
+     * method calls the loadFile() method to load the selected file.
+     */
+    @FXML
+    private void pickFile() {
+        file = fileChooser.showOpenDialog(stage);
+        if (file != null) {
+            loadFile();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Queues grids to solve and solves them in batches on a worker thread.
+ *
+ * <p>
+ * The worker waits for a grid, then takes every other queued grid up to the batch size and
+ * solves the whole batch in parallel, so a burst of requests is spread over every core without a
+ * thread per request doing the searching. The queue has a fixed size and grids are turned away
+ * once it is full, so callers can tell clients to back off instead of falling further behind.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+final class SolveBatcher implements AutoCloseable {
+    /**
+     * Grids waiting to be solved.
+     */
+    private final BlockingQueue<Job> queue;
+    /**
+     * Most grids solved in one batch.
+     */
+    private final int maxBatch;
+    /**
+     * Takes batches off the queue and solves them.
+     */
+    private final Thread worker;
+    /**
+     * Set once the batcher is closed, after which no more grids are queued.
+     */
+    private volatile boolean closed;
+    
+    /**
+     * Creates a batcher. Its worker isn't started until {@link #start()} is called.
+     *
+     * @param capacity how many grids can wait in the queue
+     * @param maxBatch most grids solved in one batch
+     * @throws IllegalArgumentException if the capacity or batch size is less than 1
+     */
+    SolveBatcher(int capacity, int maxBatch) {
+        if (capacity < 1 || maxBatch < 1) {
+            throw new IllegalArgumentException(
+                    "Queue capacity and batch size must be at least 1: " + capacity + ", " +
+                            maxBatch);
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        worker = Thread.ofPlatform().name("solve-batcher").daemon().unstarted(this::run);
+    }
+    
+    /**
+     * Starts solving queued grids.
+     */
+    void start() {
+        worker.start();
+    }
+    
+    /**
+     * Queues a grid to be solved.
+     *
+     * @param solver the solver to use, which sets the dictionary and rule
+     * @param grid   the grid to solve
+     * @return the words found, each with the first path found for it
+     * @throws RejectedExecutionException if the queue is full or the batcher is closed
+     */
+    CompletableFuture<Map<String, int[]>> submit(Solver solver, Grid grid) {
+        if (closed) {
+            throw new RejectedExecutionException("Solve queue is closed");
+        }
+        Job job = new Job(solver, grid, new CompletableFuture<>());
+        if (!queue.offer(job)) {
+            throw new RejectedExecutionException("Solve queue is full");
+        }
+        // Closed while queueing, so the queue may already have been emptied for the last time.
+        // If the job is still there it is taken back, otherwise close cancelled it
+        if (closed && queue.remove(job)) {
+            throw new RejectedExecutionException("Solve queue is closed");
+        }
+        return job.result();
+    }
+    
+    /**
+     * Gets how many grids are waiting to be solved.
+     *
+     * @return the number of queued grids
+     */
+    int queued() {
+        return queue.size();
+    }
+    
+    /**
+     * Stops taking new grids and waits for the worker to finish the batch it is solving. Grids
+     * still in the queue are cancelled.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Job job = queue.poll(); job != null; job = queue.poll()) {
+            job.result().completeExceptionally(new CancellationException("Server closed"));
+        }
+    }
+    
+    /**
+     * Solves batches until interrupted.
+     */
+    private void run() {
+        List<Job> batch = new ArrayList<>(maxBatch);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatch - 1);
+                batch.parallelStream().forEach(Job::solve);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * A grid waiting to be solved.
+     *
+     * @param solver the solver to use
+     * @param grid   the grid to solve
+     * @param result completed with the found words and their paths
+     */
+    private record Job(Solver solver, Grid grid, CompletableFuture<Map<String, int[]>> result) {
+        /**
+         * Solves the grid and completes the result.
+         */
+        void solve() {
+            try {
+                Map<String, int[]> words = new LinkedHashMap<>();
+                solver.solve(grid, words::put);
+                result.complete(words);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
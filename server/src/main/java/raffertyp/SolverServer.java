@@ -0,0 +1,333 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Long running server that loads a dictionary once and solves grids sent to it over HTTP.
+ *
+ * <p>
+ * POST a grid to {@code /solve?rules=8way}, one row per line, and the response is JSON with every
+ * word found, its Boggle score and the path of cell ids that spells it, where a cell's id is
+ * row * cols + col. The rules are the same as the command line program's, 8way if left out.
+ * {@code GET /health} answers ok once the server is up, which is after the search has been
+ * warmed up.
+ * </p>
+ *
+ * <p>
+ * Each connection is handled on its own virtual thread, which queues its grid with a
+ * {@link SolveBatcher} and waits for the answer. If the queue is full the server answers 503 so
+ * clients back off.
+ * </p>
+ *
+ * @author Patrick Rafferty
+ */
+public final class SolverServer implements AutoCloseable {
+    /**
+     * Port used if none is given.
+     */
+    private static final int DEFAULT_PORT = 2852;
+    /**
+     * How many grids can wait to be solved if no queue size is given.
+     */
+    private static final int DEFAULT_QUEUE_CAPACITY = 256;
+    /**
+     * Most grids solved in one batch if no batch size is given.
+     */
+    private static final int DEFAULT_MAX_BATCH = 32;
+    /**
+     * How many random grids are solved to warm up before serving.
+     */
+    private static final int WARM_UP_GRIDS = 2000;
+    /**
+     * Largest request body accepted, in bytes.
+     */
+    private static final int MAX_BODY_BYTES = 1 << 20;
+    /**
+     * The HTTP server.
+     */
+    private final HttpServer server;
+    /**
+     * Runs each exchange on its own virtual thread.
+     */
+    private final ExecutorService executor;
+    /**
+     * Solves queued grids in batches.
+     */
+    private final SolveBatcher batcher;
+    /**
+     * A solver for each rule set name, all sharing the dictionary.
+     */
+    private final Map<String, Solver> solvers;
+    
+    /**
+     * Creates a server that isn't listening yet.
+     *
+     * @param index         the dictionary to solve with
+     * @param address       the address to listen on
+     * @param queueCapacity how many grids can wait to be solved
+     * @param maxBatch      most grids solved in one batch
+     * @throws IOException if the address can't be bound
+     */
+    private SolverServer(PrefixIndex index, InetSocketAddress address, int queueCapacity,
+                         int maxBatch) throws IOException {
+        batcher = new SolveBatcher(queueCapacity, maxBatch);
+        solvers = Arrays.stream(StandardRule.values()).collect(Collectors.toUnmodifiableMap(
+                StandardRule::ruleName, rule -> new Solver(index, rule)));
+        server = HttpServer.create(address, 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/solve", this::solve);
+        server.createContext("/health", exchange -> respond(exchange, 200, "text/plain", "ok"));
+    }
+    
+    /**
+     * Starts a server.
+     *
+     * @param index         the dictionary to solve with
+     * @param address       the address to listen on, port 0 picks a free port
+     * @param queueCapacity how many grids can wait to be solved
+     * @param maxBatch      most grids solved in one batch
+     * @return the running server
+     * @throws IOException if the address can't be bound
+     */
+    public static SolverServer start(PrefixIndex index, InetSocketAddress address,
+                                     int queueCapacity, int maxBatch) throws IOException {
+        return start(index, address, queueCapacity, maxBatch, 0);
+    }
+    
+    /**
+     * Starts a server once random grids have been solved, so the search is compiled before
+     * requests, health checks included, are answered.
+     *
+     * @param index         the dictionary to solve with
+     * @param address       the address to listen on, port 0 picks a free port
+     * @param queueCapacity how many grids can wait to be solved
+     * @param maxBatch      most grids solved in one batch
+     * @param warmUpGrids   how many random grids to solve first
+     * @return the running server
+     * @throws IOException if the address can't be bound
+     */
+    public static SolverServer start(PrefixIndex index, InetSocketAddress address,
+                                     int queueCapacity, int maxBatch, int warmUpGrids)
+            throws IOException {
+        SolverServer solverServer = new SolverServer(index, address, queueCapacity, maxBatch);
+        solverServer.warmUp(warmUpGrids);
+        solverServer.batcher.start();
+        solverServer.server.start();
+        return solverServer;
+    }
+    
+    /**
+     * Gets the address the server is listening on.
+     *
+     * @return the address, with the real port if port 0 was asked for
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+    
+    /**
+     * Helper to solve random grids so the search is compiled before real requests come in.
+     *
+     * @param grids how many grids to solve
+     */
+    private void warmUp(int grids) {
+        Random random = new Random(grids);
+        Solver solver = solvers.get("8way");
+        for (int i = 0; i < grids; i++) {
+            char[] letters = new char[16];
+            for (int cell = 0; cell < letters.length; cell++) {
+                letters[cell] = (char) random.nextInt('a', 'z' + 1);
+            }
+            solver.solve(Grid.of(4, 4, letters), (word, path) -> { });
+        }
+    }
+    
+    /**
+     * Stops the server, cancelling grids that haven't been solved.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        batcher.close();
+        executor.close();
+    }
+    
+    /**
+     * Handles a solve request.
+     *
+     * @param exchange the request and response
+     * @throws IOException if there was a problem talking to the client
+     */
+    private void solve(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            respond(exchange, 405, "text/plain", "Send grids with POST");
+            return;
+        }
+        String rules = "8way";
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("rules=")) {
+                    rules = parameter.substring("rules=".length());
+                }
+            }
+        }
+        Solver solver = solvers.get(rules);
+        if (solver == null) {
+            respond(exchange, 400, "text/plain", "Unexpected value: " + rules);
+            return;
+        }
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readNBytes(MAX_BODY_BYTES + 1);
+        }
+        if (body.length > MAX_BODY_BYTES) {
+            respond(exchange, 413, "text/plain", "Grid is too big");
+            return;
+        }
+        Grid grid;
+        try {
+            grid = Grid.of(new String(body, StandardCharsets.UTF_8).lines()
+                    .filter(line -> !line.isBlank()).map(String::strip).toList());
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, "text/plain", e.getMessage());
+            return;
+        }
+        try {
+            Map<String, int[]> words = batcher.submit(solver, grid).get();
+            respond(exchange, 200, "application/json", toJson(rules, grid, words));
+        } catch (RejectedExecutionException e) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            respond(exchange, 503, "text/plain", e.getMessage());
+        } catch (ExecutionException | CancellationException e) {
+            respond(exchange, 500, "text/plain", "Problem solving grid: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "text/plain", "Server is closing");
+        }
+    }
+    
+    /**
+     * Writes a solved grid as JSON.
+     *
+     * @param rules the rule set name the grid was solved with
+     * @param grid  the grid
+     * @param words the words found and their paths
+     * @return the JSON
+     */
+    static String toJson(String rules, Grid grid, Map<String, int[]> words) {
+        StringBuilder json = new StringBuilder(64 + words.size() * 48)
+                .append("{\"rules\":\"").append(rules).append("\",\"rows\":").append(grid.rows())
+                .append(",\"cols\":").append(grid.cols()).append(",\"count\":")
+                .append(words.size()).append(",\"score\":")
+                .append(words.keySet().stream().mapToInt(GameBoard::score).sum())
+                .append(",\"words\":[");
+        String separator = "";
+        for (Map.Entry<String, int[]> entry : words.entrySet()) {
+            // Dictionary words are only ever a-z, so they never need escaping
+            json.append(separator).append("{\"word\":\"").append(entry.getKey())
+                    .append("\",\"score\":").append(GameBoard.score(entry.getKey()))
+                    .append(",\"path\":[");
+            int[] path = entry.getValue();
+            for (int i = 0; i < path.length; i++) {
+                json.append(i == 0 ? "" : ",").append(path[i]);
+            }
+            json.append("]}");
+            separator = ",";
+        }
+        return json.append("]}").toString();
+    }
+    
+    /**
+     * Sends a response and closes the exchange.
+     *
+     * @param exchange    the exchange to respond to
+     * @param status      the HTTP status code
+     * @param contentType the content type of the body
+     * @param body        the body
+     * @throws IOException if there was a problem talking to the client
+     */
+    private static void respond(HttpExchange exchange, int status, String contentType,
+                                String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    /**
+     * Entry point for the server. Listens on the loopback address until the process is stopped.
+     *
+     * @param args dictionary (word list, or compiled .trie or .dawg file), then optionally the
+     *             port, queue=&lt;n&gt; for how many grids can wait and batch=&lt;n&gt; for most
+     *             grids solved at once
+     */
+    public static void main(String[] args) {
+        try {
+            int port = DEFAULT_PORT;
+            int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+            int maxBatch = DEFAULT_MAX_BATCH;
+            for (int i = 1; i < args.length; i++) {
+                if (args[i].startsWith("queue=")) {
+                    queueCapacity = Integer.parseInt(args[i].substring("queue=".length()));
+                } else if (args[i].startsWith("batch=")) {
+                    maxBatch = Integer.parseInt(args[i].substring("batch=".length()));
+                } else {
+                    port = Integer.parseInt(args[i]);
+                }
+            }
+            Instant start = Instant.now();
+            Path dictionary = Path.of(args[0]);
+            PrefixIndex index;
+            if (args[0].endsWith(".trie")) {
+                index = MappedTrie.map(dictionary);
+            } else if (args[0].endsWith(".dawg")) {
+                index = Dawg.map(dictionary);
+            } else {
+                index = ArrayTrie.load(dictionary);
+            }
+            SolverServer solverServer = start(index,
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), port), queueCapacity,
+                    maxBatch, WARM_UP_GRIDS);
+            Duration startTime = Duration.between(start, Instant.now());
+            System.out.println("Listening on http://" + solverServer.address().getHostString() +
+                    ':' + solverServer.address().getPort() + "/solve after " +
+                    startTime.toMillis() + " ms");
+        } catch (IOException e) {
+            System.err.println("Error starting server: " + e);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Course: CS2852
+ * Spring 2022-2023
+ * Lab 9 - Word Search
+ * Name: Patrick Rafferty
+ * Created: October 2026
+ */
+package raffertyp;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tests the solver server with a client on the loopback address.
+ *
+ * @author Patrick Rafferty
+ */
+public class SolverServerTest {
+    /**
+     * Finds each word in a response.
+     */
+    private static final Pattern WORD = Pattern.compile("\"word\":\"([a-z]+)\"");
+    /**
+     * The server being tested.
+     */
+    private static SolverServer server;
+    /**
+     * Client sending requests to the server.
+     */
+    private static HttpClient client;
+    
+    /**
+     * Starts the server on a free port.
+     *
+     * @throws IOException if there was a problem reading the dictionary or starting the server
+     */
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = SolverServer.start(ArrayTrie.load(Path.of("data/words.txt")),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 8, 4, 10);
+        client = HttpClient.newHttpClient();
+    }
+    
+    /**
+     * Stops the server.
+     */
+    @AfterAll
+    static void stopServer() {
+        server.close();
+        client.close();
+    }
+    
+    /**
+     * Helper method to build a request to the server.
+     *
+     * @param path the path and query to request
+     * @return the request builder
+     */
+    private static HttpRequest.Builder request(final String path) {
+        return HttpRequest.newBuilder(URI.create("http://" + server.address().getHostString() +
+                ':' + server.address().getPort() + path));
+    }
+    
+    /**
+     * Helper method to solve a grid file on the server.
+     *
+     * @param rules the rule set name
+     * @param size  the size of the grid file
+     * @return the response
+     */
+    private static CompletableFuture<HttpResponse<String>> solve(final String rules,
+                                                                 final String size) {
+        try {
+            return client.sendAsync(request("/solve?rules=" + rules)
+                    .POST(HttpRequest.BodyPublishers.ofFile(
+                            Path.of("data/grid" + size + ".txt"))).build(),
+                    HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    /**
+     * Helper method to get the words out of a response.
+     *
+     * @param body the response body
+     * @return the words in it
+     */
+    private static Set<String> words(final String body) {
+        final List<String> words = new ArrayList<>();
+        final Matcher matcher = WORD.matcher(body);
+        while (matcher.find()) {
+            words.add(matcher.group(1));
+        }
+        return Set.copyOf(words);
+    }
+    
+    /**
+     * Makes sure solved grids have the expected words and score, including when many requests
+     * come in at once and some are turned away.
+     *
+     * @throws IOException          if there was a problem reading a file
+     * @throws ExecutionException   if a request failed
+     * @throws InterruptedException if interrupted while waiting for a response
+     */
+    @Test
+    void solveGrids() throws IOException, ExecutionException, InterruptedException {
+        final HttpResponse<String> response = solve("8way", "4x4").get();
+        Assertions.assertEquals(200, response.statusCode());
+        final Set<String> expected =
+                Set.copyOf(Files.readAllLines(Path.of("data/testOutput/words8way4x4.txt")));
+        Assertions.assertEquals(expected, words(response.body()));
+        Assertions.assertTrue(response.body().contains("\"count\":" + expected.size()));
+        Assertions.assertTrue(response.body().contains("\"score\":" +
+                expected.stream().mapToInt(GameBoard::score).sum() + ','));
+        
+        final Set<String> expected6x6 =
+                Set.copyOf(Files.readAllLines(Path.of("data/testOutput/words4way6x6.txt")));
+        final List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            responses.add(solve("4way", "6x6"));
+        }
+        int solved = 0;
+        for (final CompletableFuture<HttpResponse<String>> future : responses) {
+            final HttpResponse<String> burst = future.get();
+            if (burst.statusCode() == 200) {
+                Assertions.assertEquals(expected6x6, words(burst.body()));
+                solved++;
+            } else {
+                Assertions.assertEquals(503, burst.statusCode());
+            }
+        }
+        Assertions.assertTrue(solved > 0);
+    }
+    
+    /**
+     * Makes sure bad requests are turned away with the right status.
+     *
+     * @throws IOException          if there was a problem talking to the server
+     * @throws InterruptedException if interrupted while waiting for a response
+     */
+    @Test
+    void badRequests() throws IOException, InterruptedException {
+        Assertions.assertEquals(400, client.send(request("/solve")
+                .POST(HttpRequest.BodyPublishers.ofString("ab\nc")).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        Assertions.assertEquals(400, client.send(request("/solve?rules=chess")
+                .POST(HttpRequest.BodyPublishers.ofString("ab\ncd")).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        Assertions.assertEquals(405, client.send(request("/solve").GET().build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        Assertions.assertEquals("ok", client.send(request("/health").GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body());
+    }
+    
+    /**
+     * Makes sure a full queue turns grids away, closing cancels queued grids and a closed queue
+     * turns grids away.
+     */
+    @Test
+    void backpressure() {
+        final Solver solver = new Solver(ArrayTrie.of(List.of("abc")), StandardRule.EIGHT_WAY);
+        final Grid grid = Grid.of(List.of("abc"));
+        final CompletableFuture<?> queued;
+        final SolveBatcher closing;
+        try (SolveBatcher batcher = new SolveBatcher(1, 1)) {
+            closing = batcher;
+            queued = batcher.submit(solver, grid);
+            Assertions.assertEquals(1, batcher.queued());
+            Assertions.assertThrows(RejectedExecutionException.class,
+                    () -> batcher.submit(solver, grid));
+        }
+        Assertions.assertThrows(CancellationException.class, queued::get);
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> closing.submit(solver, grid));
+        Assertions.assertEquals(0, closing.queued());
+        final SolveBatcher started = new SolveBatcher(4, 2);
+        started.start();
+        final CompletableFuture<?> solved = started.submit(solver, grid);
+        started.close();
+        Assertions.assertTrue(solved.isDone());
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> started.submit(solver, grid));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SolveBatcher(0, 1));
+    }
+}